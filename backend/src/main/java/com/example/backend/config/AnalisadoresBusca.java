@@ -0,0 +1,76 @@
+package com.example.backend.config;
+
+import org.apache.lucene.analysis.core.KeywordTokenizerFactory;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.core.StopFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.ngram.EdgeNGramFilterFactory;
+import org.apache.lucene.analysis.pattern.PatternReplaceCharFilterFactory;
+import org.apache.lucene.analysis.pt.PortugueseLightStemFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Analisadores do índice de clientes: texto em português (stopwords e radicais) sem distinção de acentos e
+ * maiúsculas, variantes com prefixos (edge n-grams) para busca parcial e CEP só com dígitos.
+ */
+public class AnalisadoresBusca implements LuceneAnalysisConfigurer {
+
+    public static final String ANALISADOR_PORTUGUES = "portugues";
+    public static final String ANALISADOR_TEXTO = "texto";
+    public static final String ANALISADOR_PREFIXO = "prefixo";
+    public static final String ANALISADOR_CEP = "cep";
+    public static final String ANALISADOR_CEP_PREFIXO = "cep_prefixo";
+    public static final String NORMALIZADOR = "minusculas_sem_acento";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        // Stopwords antes da remoção de acentos (a lista tem "não", "é"...); o stemmer leve só reduz
+        // plural e gênero, então "clientes" e "cliente" viram o mesmo termo sem deformar nomes próprios
+        context.analyzer(ANALISADOR_PORTUGUES).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(StopFilterFactory.class)
+                        .param("words", "org/apache/lucene/analysis/snowball/portuguese_stop.txt")
+                        .param("format", "snowball")
+                        .param("ignoreCase", "true")
+                .tokenFilter(PortugueseLightStemFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class);
+
+        // Termos da consulta nos campos de prefixo: sem radicais, que nem sempre são prefixo da palavra
+        context.analyzer(ANALISADOR_TEXTO).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class);
+
+        // Indexa todos os prefixos de cada palavra: "Jo" encontra "João"
+        context.analyzer(ANALISADOR_PREFIXO).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(EdgeNGramFilterFactory.class)
+                        .param("minGramSize", "2")
+                        .param("maxGramSize", "20");
+
+        // "01310-100" e "01310100" viram o mesmo termo
+        context.analyzer(ANALISADOR_CEP).custom()
+                .charFilter(PatternReplaceCharFilterFactory.class)
+                        .param("pattern", "[^0-9]")
+                        .param("replacement", "")
+                .tokenizer(KeywordTokenizerFactory.class);
+
+        context.analyzer(ANALISADOR_CEP_PREFIXO).custom()
+                .charFilter(PatternReplaceCharFilterFactory.class)
+                        .param("pattern", "[^0-9]")
+                        .param("replacement", "")
+                .tokenizer(KeywordTokenizerFactory.class)
+                .tokenFilter(EdgeNGramFilterFactory.class)
+                        .param("minGramSize", "2")
+                        .param("maxGramSize", "8");
+
+        context.normalizer(NORMALIZADOR).custom()
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BuscaConfig {
+
+    // Índice Lucene em disco local, mantido pelo Hibernate Search a cada escrita via JPA
+    @Bean
+    public HibernatePropertiesCustomizer buscaHibernateSearch(@Value("${app.busca.diretorio}") String diretorio) {
+        return properties -> {
+            properties.put("hibernate.search.backend.directory.root", diretorio);
+            properties.put("hibernate.search.backend.analysis.configurer", "class:" + AnalisadoresBusca.class.getName());
+            properties.put("hibernate.search.backend.lucene_version", "LATEST");
+        };
+    }
+}
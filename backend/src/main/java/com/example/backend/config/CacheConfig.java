@@ -0,0 +1,61 @@
+package com.example.backend.config;
+
+import com.example.backend.dto.ClienteDTO;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String CLIENTES = "clientes";
+    public static final String CLIENTES_LISTAS = "clientesListas";
+    public static final String ENDERECOS = "enderecos";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties,
+                                     @Value("${app.cache.listas.peso-maximo:50000}") long pesoMaximoListas,
+                                     @Value("${app.cache.listas.expiracao:10m}") Duration expiracaoListas) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        caffeine.setCaffeineSpec(CaffeineSpec.parse(cacheProperties.getCaffeine().getSpec()));
+        caffeine.setCacheNames(cacheProperties.getCacheNames());
+        caffeine.setAllowNullValues(false);
+
+        // Cada lista é uma entrada com a tabela inteira: o limite é pelo total de clientes e endereços guardados,
+        // e uma lista maior que ele não é mantida no cache
+        caffeine.registerCustomCache(CLIENTES_LISTAS, Caffeine.newBuilder()
+                .maximumWeight(pesoMaximoListas)
+                .weigher((Object chave, Object valor) -> peso(valor))
+                .expireAfterWrite(expiracaoListas)
+                .recordStats()
+                .build());
+
+        // Escritas e evicções só chegam ao cache depois do commit, evitando repopular com dados antigos
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+
+    private static int peso(Object valor) {
+        if (!(valor instanceof List<?> lista)) {
+            return 1;
+        }
+        long peso = 1;
+        for (Object item : lista) {
+            List<?> enderecos = item instanceof ClienteDTO cliente ? cliente.getEnderecos() : null;
+            peso += 1 + (enderecos != null ? enderecos.size() : 0);
+        }
+        return (int) Math.min(peso, Integer.MAX_VALUE);
+    }
+}
@@ -1,20 +1,20 @@
 package com.example.backend.config;
 
-import org.springframework.boot.jdbc.DataSourceBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import javax.sql.DataSource;
 
 @Configuration
 public class DatabaseConfig {
 
+    // URL, usuário e senha vêm de spring.datasource.*; ajustes do pool de spring.datasource.hikari.*
     @Bean
-    public DataSource dataSource() {
-        return DataSourceBuilder.create()
-                .url("jdbc:mysql://localhost:3306/database-desafio")
-                .username("root")
-                .password("Pablo#2005") // Aqui pode usar a senha normal
-                .driverClassName("com.mysql.cj.jdbc.Driver")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.example.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Observa todos os comandos SQL que passam pelo pool (Hibernate e JdbcTemplate):
+ * registra a duração por tipo de comando, loga apenas os que passam do limite de lentidão
+ * e acumula quantidade e tempo por requisição HTTP, alertando quando o orçamento é excedido.
+ */
+@Slf4j
+public class MonitorSql implements QueryExecutionListener {
+
+    private static final String INICIO = MonitorSql.class.getName() + ".inicio";
+
+    // Comandos da requisição corrente; fora de requisições (jobs, exportações assíncronas) fica vazio
+    private static final ThreadLocal<EstatisticasRequisicao> REQUISICAO = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final long limiteLentoNanos;
+    private final int orcamentoPorRequisicao;
+    private final Map<QueryType, Timer> duracaoPorTipo = new EnumMap<>(QueryType.class);
+    private final Counter comandosLentos;
+
+    public MonitorSql(MeterRegistry meterRegistry, Duration limiteLento, int orcamentoPorRequisicao) {
+        this.meterRegistry = meterRegistry;
+        this.limiteLentoNanos = limiteLento.toNanos();
+        this.orcamentoPorRequisicao = orcamentoPorRequisicao;
+        for (QueryType tipo : QueryType.values()) {
+            duracaoPorTipo.put(tipo, Timer.builder("sql.statements")
+                    .description("Duração dos comandos SQL executados no pool")
+                    .tag("tipo", tipo.name())
+                    .register(meterRegistry));
+        }
+        this.comandosLentos = Counter.builder("sql.statements.lentos")
+                .description("Comandos SQL acima do limite de lentidão")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(INICIO, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long inicio = execInfo.getCustomValue(INICIO, Long.class);
+        long duracao = inicio != null
+                ? System.nanoTime() - inicio : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        QueryType tipo = queryInfoList.isEmpty()
+                ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        duracaoPorTipo.get(tipo).record(duracao, TimeUnit.NANOSECONDS);
+
+        EstatisticasRequisicao requisicao = REQUISICAO.get();
+        if (requisicao != null) {
+            requisicao.comandos++;
+            requisicao.duracaoNanos += duracao;
+        }
+
+        // Só o texto do comando: os parâmetros podem conter dados pessoais e não são formatados
+        if (duracao >= limiteLentoNanos) {
+            comandosLentos.increment();
+            log.warn("SQL lento ({} ms{}): {}", TimeUnit.NANOSECONDS.toMillis(duracao),
+                    execInfo.isBatch() ? ", batch de " + execInfo.getBatchSize() : "",
+                    queryInfoList.stream().map(QueryInfo::getQuery).distinct().collect(Collectors.joining("; ")));
+        }
+    }
+
+    public void iniciarRequisicao() {
+        REQUISICAO.set(new EstatisticasRequisicao());
+    }
+
+    public void encerrarRequisicao(HttpServletRequest request) {
+        EstatisticasRequisicao requisicao = REQUISICAO.get();
+        REQUISICAO.remove();
+        if (requisicao == null) {
+            return;
+        }
+
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+        DistributionSummary.builder("sql.statements.requisicao")
+                .description("Comandos SQL executados por requisição")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(requisicao.comandos);
+        Timer.builder("sql.tempo.requisicao")
+                .description("Tempo total gasto em SQL por requisição")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(requisicao.duracaoNanos, TimeUnit.NANOSECONDS);
+
+        if (requisicao.comandos > orcamentoPorRequisicao) {
+            Counter.builder("sql.orcamento.excedido")
+                    .description("Requisições acima do orçamento de comandos SQL")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executou {} comandos SQL ({} ms), acima do orçamento de {}; possível N+1",
+                    request.getMethod(), uri, requisicao.comandos,
+                    TimeUnit.NANOSECONDS.toMillis(requisicao.duracaoNanos), orcamentoPorRequisicao);
+        }
+    }
+
+    private static class EstatisticasRequisicao {
+
+        private int comandos;
+        private long duracaoNanos;
+    }
+}
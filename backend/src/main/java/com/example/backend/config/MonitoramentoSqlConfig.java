@@ -0,0 +1,67 @@
+package com.example.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+
+@Configuration
+public class MonitoramentoSqlConfig {
+
+    @Bean
+    public MonitorSql monitorSql(MeterRegistry meterRegistry,
+                                 @Value("${app.sql.limite-lento:200ms}") Duration limiteLento,
+                                 @Value("${app.sql.orcamento-por-requisicao:30}") int orcamentoPorRequisicao) {
+        return new MonitorSql(meterRegistry, limiteLento, orcamentoPorRequisicao);
+    }
+
+    // O pool (Hikari) continua configurado em DatabaseConfig; aqui ele só é envolvido pelo datasource-proxy
+    @Bean
+    public static BeanPostProcessor proxyDataSource(ObjectProvider<MonitorSql> monitorSql) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                            .name(beanName)
+                            .listener(monitorSql.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Filtro em vez de interceptor: cobre também a serialização da resposta e não fica preso a requisições assíncronas
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> sqlPorRequisicao(MonitorSql monitorSql) {
+        FilterRegistrationBean<OncePerRequestFilter> registro = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                monitorSql.iniciarRequisicao();
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    monitorSql.encerrarRequisicao(request);
+                }
+            }
+        });
+        registro.addUrlPatterns("/api/*", "/enderecos/*");
+        return registro;
+    }
+}
@@ -1,17 +1,39 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.AlteracaoStatusEmLoteDTO;
+import com.example.backend.dto.AlteracoesClientesDTO;
 import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.FiltroClienteDTO;
+import com.example.backend.dto.FormatoImportacao;
+import com.example.backend.dto.FormatoTransmissao;
+import com.example.backend.dto.OrdenacaoCliente;
+import com.example.backend.dto.PaginaDTO;
+import com.example.backend.dto.ResultadoImportacaoDTO;
+import com.example.backend.dto.ResultadoOperacaoEmLoteDTO;
+import com.example.backend.dto.ResumoVersoesDTO;
 import com.example.backend.exception.ClienteException;
+import com.example.backend.service.AlteracoesClienteService;
+import com.example.backend.service.BuscaClienteService;
 import com.example.backend.service.ClienteService;
+import com.example.backend.service.ImportacaoClienteService;
 import com.itextpdf.text.DocumentException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.validation.Valid;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -20,6 +42,9 @@ import java.util.List;
 public class ClienteController {
 
     private final ClienteService clienteService;
+    private final ImportacaoClienteService importacaoClienteService;
+    private final BuscaClienteService buscaClienteService;
+    private final AlteracoesClienteService alteracoesClienteService;
 
     @PostMapping
     public ResponseEntity<ClienteDTO> criarCliente(@RequestBody ClienteDTO clienteDTO) throws ClienteException {
@@ -27,37 +52,133 @@ public class ClienteController {
         return new ResponseEntity<>(novoCliente, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/importar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResultadoImportacaoDTO> importarClientes(
+            @RequestParam("arquivo") MultipartFile arquivo,
+            @RequestParam(required = false) FormatoImportacao formato) throws ClienteException, IOException {
+        FormatoImportacao formatoArquivo = formato != null
+                ? formato : FormatoImportacao.deNomeArquivo(arquivo.getOriginalFilename());
+
+        try (InputStream in = arquivo.getInputStream()) {
+            ResultadoImportacaoDTO resultado = importacaoClienteService.importar(in, formatoArquivo);
+            return ResponseEntity.ok(resultado);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ClienteDTO> atualizarCliente(
-            @PathVariable Long id, @RequestBody ClienteDTO clienteDTO) throws ClienteException {
+            @PathVariable Long id, @RequestBody ClienteDTO clienteDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws ClienteException {
+        // If-Match tem precedência sobre a versão enviada no corpo
+        if (ifMatch != null) {
+            clienteDTO.setVersao(versaoDoEtag(ifMatch));
+        }
         ClienteDTO clienteAtualizado = clienteService.atualizarCliente(id, clienteDTO);
-        return ResponseEntity.ok(clienteAtualizado);
+        return ResponseEntity.ok().eTag(etag(clienteAtualizado.getVersao())).body(clienteAtualizado);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ClienteDTO> buscarClientePorId(@PathVariable Long id) throws ClienteException {
+    public ResponseEntity<ClienteDTO> buscarClientePorId(@PathVariable Long id, WebRequest requisicao)
+            throws ClienteException {
+        // Só a versão é consultada para decidir o 304; o DTO é montado apenas quando o cliente mudou.
+        // checkNotModified já grava o cabeçalho ETag na resposta, inclusive no 200
+        String etag = etag(clienteService.buscarVersaoCliente(id));
+        if (requisicao.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         ClienteDTO cliente = clienteService.buscarClientePorId(id);
         return ResponseEntity.ok(cliente);
     }
 
     @GetMapping
-    public ResponseEntity<List<ClienteDTO>> listarTodosClientes() {
+    public ResponseEntity<List<ClienteDTO>> listarTodosClientes(WebRequest requisicao) {
+        String etag = etagLista(null, "todos");
+        if (requisicao.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<ClienteDTO> clientes = clienteService.listarTodosClientes();
         return ResponseEntity.ok(clientes);
     }
 
     @GetMapping("/ativos")
-    public ResponseEntity<List<ClienteDTO>> listarClientesAtivos() {
+    public ResponseEntity<List<ClienteDTO>> listarClientesAtivos(WebRequest requisicao) {
+        FiltroClienteDTO ativos = new FiltroClienteDTO();
+        ativos.setAtivo(true);
+        String etag = etagLista(ativos, "ativos");
+        if (requisicao.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<ClienteDTO> clientes = clienteService.listarClientesAtivos();
         return ResponseEntity.ok(clientes);
     }
 
+    @GetMapping("/busca")
+    public ResponseEntity<PaginaDTO<ClienteDTO>> buscarClientes(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(defaultValue = "20") int tamanho) throws ClienteException {
+        PaginaDTO<ClienteDTO> resultado = buscaClienteService.buscar(q, pagina, tamanho);
+        return ResponseEntity.ok(resultado);
+    }
+
+    @PostMapping("/busca/reindexar")
+    public ResponseEntity<Void> reindexarBusca() {
+        buscaClienteService.reconstruirIndice();
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/paginado")
+    public ResponseEntity<PaginaDTO<ClienteDTO>> listarClientesPaginado(
+            FiltroClienteDTO filtro,
+            @RequestParam(defaultValue = "ID") OrdenacaoCliente ordenarPor,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direcao,
+            @RequestParam(defaultValue = "20") int tamanho,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean incluirTotal,
+            ServletWebRequest requisicao) throws ClienteException {
+        // O agregado cobre o filtro inteiro; os demais parâmetros (página, ordenação, cursor) entram pela query string
+        String etag = etagLista(filtro, "paginado?" + requisicao.getRequest().getQueryString());
+        if (requisicao.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        PaginaDTO<ClienteDTO> clientes = clienteService.listarClientesPaginado(
+                filtro, ordenarPor, direcao, tamanho, pagina, cursor, incluirTotal);
+        return ResponseEntity.ok(clientes);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> excluirCliente(@PathVariable Long id) throws ClienteException {
         clienteService.excluirCliente(id);
         return ResponseEntity.noContent().build();
     }
 
+    // Os IDs vão na query string, limitada pelo cabeçalho de 8 KB do Tomcat: na prática cerca de mil IDs.
+    // Para lotes maiores (até 10.000 IDs) use POST /exclusoes
+    @DeleteMapping
+    public ResponseEntity<ResultadoOperacaoEmLoteDTO> excluirClientes(@RequestParam List<Long> ids) throws ClienteException {
+        ResultadoOperacaoEmLoteDTO resultado = clienteService.excluirClientes(ids);
+        return ResponseEntity.ok(resultado);
+    }
+
+    @PostMapping("/exclusoes")
+    public ResponseEntity<ResultadoOperacaoEmLoteDTO> excluirClientesEmLote(@RequestBody List<Long> ids)
+            throws ClienteException {
+        ResultadoOperacaoEmLoteDTO resultado = clienteService.excluirClientes(ids);
+        return ResponseEntity.ok(resultado);
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<ResultadoOperacaoEmLoteDTO> ativarDesativarClientes(
+            @Valid @RequestBody AlteracaoStatusEmLoteDTO alteracao) throws ClienteException {
+        ResultadoOperacaoEmLoteDTO resultado = clienteService.ativarDesativarClientes(alteracao);
+        return ResponseEntity.ok(resultado);
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<Void> ativarDesativarCliente(
             @PathVariable Long id, @RequestParam Boolean ativo) throws ClienteException {
@@ -65,25 +186,74 @@ public class ClienteController {
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/exportar-excel")
-    public ResponseEntity<byte[]> exportarParaExcel() throws ClienteException, IOException {
-        byte[] excelBytes = clienteService.exportarClientesParaExcel();
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> transmitirClientes(
+            FiltroClienteDTO filtro,
+            @RequestParam(defaultValue = "NDJSON") FormatoTransmissao formato) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(formato.getMediaType());
+
+        // Sem Content-Length: a resposta vai em chunks, um a cada bloco de clientes lido do banco
+        StreamingResponseBody body = out -> clienteService.transmitirClientes(filtro, formato, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    // Sincronização incremental: sem since devolve só o token da posição atual do feed
+    @GetMapping("/changes")
+    public ResponseEntity<AlteracoesClientesDTO> listarAlteracoes(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int tamanho) throws ClienteException {
+        return ResponseEntity.ok(alteracoesClienteService.listar(since, tamanho));
+    }
 
+    @GetMapping("/exportar-excel")
+    public ResponseEntity<StreamingResponseBody> exportarParaExcel(FiltroClienteDTO filtro) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
         headers.setContentDispositionFormData("attachment", "clientes.xlsx");
 
-        return new ResponseEntity<>(excelBytes, headers, HttpStatus.OK);
+        // A planilha é gerada e escrita diretamente na resposta, sem buffer intermediário
+        StreamingResponseBody body = out -> clienteService.exportarClientesParaExcel(filtro, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     @GetMapping("/exportar-pdf")
-    public ResponseEntity<byte[]> exportarParaPdf() throws ClienteException, DocumentException {
-        byte[] pdfBytes = clienteService.exportarClientesParaPdf();
-
+    public ResponseEntity<StreamingResponseBody> exportarParaPdf(FiltroClienteDTO filtro) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
         headers.setContentDispositionFormData("attachment", "clientes.pdf");
 
-        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+        // As páginas são enviadas à medida que a tabela é descarregada pelo iText
+        StreamingResponseBody body = out -> {
+            try {
+                clienteService.exportarClientesParaPdf(filtro, out);
+            } catch (DocumentException e) {
+                throw new IOException("Falha ao gerar o PDF", e);
+            }
+        };
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    private static String etag(Long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    private static Long versaoDoEtag(String etag) throws ClienteException {
+        String valor = etag.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        try {
+            return Long.valueOf(valor.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new ClienteException("If-Match inválido: " + etag);
+        }
+    }
+
+    // ETag de coleção a partir de um agregado (total, soma das versões, maior ID), sem ler as linhas
+    private String etagLista(FiltroClienteDTO filtro, String variante) {
+        ResumoVersoesDTO resumo = clienteService.resumirVersoes(filtro);
+        String assinatura = variante + "|" + resumo.getTotal() + "|" + resumo.getSomaVersoes() + "|" + resumo.getMaiorId();
+        return "\"" + DigestUtils.md5DigestAsHex(assinatura.getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.EnderecoDTO;
 import com.example.backend.model.Endereco;
 import com.example.backend.service.EnderecoService;
 import org.springframework.http.ResponseEntity;
@@ -32,8 +33,8 @@ public class EnderecoController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Endereco> buscarPorId(@PathVariable Long id) {
-        Endereco endereco = enderecoService.buscarPorId(id);
+    public ResponseEntity<EnderecoDTO> buscarPorId(@PathVariable Long id) {
+        EnderecoDTO endereco = enderecoService.buscarPorId(id);
         return ResponseEntity.ok(endereco);
     }
 
@@ -0,0 +1,55 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.ExportacaoDTO;
+import com.example.backend.dto.FormatoExportacao;
+import com.example.backend.dto.SolicitacaoExportacaoDTO;
+import com.example.backend.exception.ClienteException;
+import com.example.backend.service.ExportacaoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import javax.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/clientes/exportacoes")
+@RequiredArgsConstructor
+public class ExportacaoController {
+
+    private final ExportacaoService exportacaoService;
+
+    @PostMapping
+    public ResponseEntity<ExportacaoDTO> solicitarExportacao(@Valid @RequestBody SolicitacaoExportacaoDTO solicitacao) {
+        ExportacaoDTO exportacao = exportacaoService.solicitar(solicitacao);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(exportacao.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(exportacao);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportacaoDTO> buscarExportacao(@PathVariable String id) throws ClienteException {
+        return ResponseEntity.ok(exportacaoService.buscar(id));
+    }
+
+    @GetMapping("/{id}/arquivo")
+    public ResponseEntity<Resource> baixarArquivo(@PathVariable String id) throws ClienteException, IOException {
+        FormatoExportacao formato = exportacaoService.formato(id);
+        // O stream é fechado pelo conversor ao fim da escrita, liberando o arquivo para a expiração
+        ExportacaoService.ArquivoExportacao arquivo = exportacaoService.abrirArquivo(id);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(formato.getMediaType());
+        headers.setContentDispositionFormData("attachment", "clientes." + formato.getExtensao());
+        headers.setContentLength(arquivo.tamanho());
+
+        return ResponseEntity.ok().headers(headers).body(new InputStreamResource(arquivo.conteudo()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AlteracaoClienteDTO {
+
+    @Schema(description = "Sequência da última alteração do cliente no lote", example = "1532")
+    private Long sequencia;
+
+    @Schema(description = "ID do cliente alterado", example = "1")
+    private Long clienteId;
+
+    @Schema(description = "Momento da última alteração do cliente no lote")
+    private Instant registradaEm;
+
+    @Schema(description = "Indica que o cliente foi excluído (tombstone)", example = "false")
+    private boolean excluido;
+
+    @Schema(description = "Estado atual do cliente; ausente quando excluído")
+    private ClienteDTO cliente;
+}
@@ -0,0 +1,25 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracaoStatusEmLoteDTO {
+
+    @NotNull(message = "Status ativo é obrigatório")
+    @Schema(description = "Novo status dos clientes", example = "false")
+    private Boolean ativo;
+
+    @Schema(description = "IDs dos clientes; alternativo ao filtro")
+    private List<Long> ids;
+
+    @Schema(description = "Filtro dos clientes alterados; alternativo aos IDs")
+    private FiltroClienteDTO filtro;
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracoesClientesDTO {
+
+    @Schema(description = "Clientes alterados desde o token informado, um item por cliente, em ordem de sequência")
+    private List<AlteracaoClienteDTO> alteracoes;
+
+    @Schema(description = "Token a ser enviado em since na próxima consulta")
+    private String proximoToken;
+
+    @Schema(description = "Indica que já existem mais alterações disponíveis após este lote")
+    private boolean temMais;
+}
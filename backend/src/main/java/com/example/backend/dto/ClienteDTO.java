@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 
 import javax.validation.Valid;
 import javax.validation.constraints.*;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -69,4 +70,14 @@ public class ClienteDTO {
     @Valid
     @Schema(description = "Lista de endereços do cliente")
     private List<EnderecoDTO> enderecos;
+
+    @Schema(description = "Versão do cliente; se informada na atualização, deve ser a versão atual", example = "3")
+    private Long versao;
+
+    @Schema(description = "Momento da criação do cliente", accessMode = Schema.AccessMode.READ_ONLY)
+    private Instant criadoEm;
+
+    @Schema(description = "Momento da última alteração do cliente ou de seus endereços",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private Instant atualizadoEm;
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Cliente;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Linha achatada usada pelos exportadores: dados do cliente junto com o
+ * telefone e o CEP do endereço principal (ou do primeiro, se nenhum for principal).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteExportacaoDTO {
+
+    private Long id;
+
+    private Cliente.TipoPessoa tipoPessoa;
+
+    private String cpfCnpj;
+
+    private String nome;
+
+    private String razaoSocial;
+
+    private String email;
+
+    private String telefone;
+
+    private String cep;
+
+    private Boolean ativo;
+
+    public String getNomeOuRazaoSocial() {
+        return tipoPessoa == Cliente.TipoPessoa.FISICA ? nome : razaoSocial;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErroImportacaoDTO {
+
+    @Schema(description = "Linha do arquivo (a partir de 1, contando o cabeçalho)", example = "42")
+    private long linha;
+
+    @Schema(description = "Motivos da rejeição")
+    private List<String> mensagens;
+}
@@ -0,0 +1,44 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportacaoDTO {
+
+    @Schema(description = "Identificador da exportação")
+    private String id;
+
+    @Schema(description = "Formato do arquivo", example = "EXCEL")
+    private FormatoExportacao formato;
+
+    @Schema(description = "Situação da exportação", example = "EXECUTANDO")
+    private StatusExportacao status;
+
+    @Schema(description = "Percentual concluído", example = "42")
+    private int percentual;
+
+    @Schema(description = "Clientes já escritos no arquivo", example = "42000")
+    private long linhasProcessadas;
+
+    @Schema(description = "Total de clientes a exportar", example = "100000")
+    private Long totalLinhas;
+
+    @Schema(description = "Motivo da falha, quando houver")
+    private String erro;
+
+    private Instant criadaEm;
+
+    private Instant concluidaEm;
+
+    @Schema(description = "Momento a partir do qual o arquivo deixa de estar disponível")
+    private Instant expiraEm;
+}
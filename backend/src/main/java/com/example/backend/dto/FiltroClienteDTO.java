@@ -0,0 +1,28 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Cliente;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroClienteDTO {
+
+    @Schema(description = "Tipo de pessoa", example = "FISICA")
+    private Cliente.TipoPessoa tipoPessoa;
+
+    @Schema(description = "Indica se o cliente está ativo", example = "true")
+    private Boolean ativo;
+
+    @Schema(description = "Prefixo do CPF ou CNPJ", example = "123.456")
+    private String cpfCnpj;
+
+    @Schema(description = "Cidade de algum endereço do cliente", example = "São Paulo")
+    private String cidade;
+
+    @Schema(description = "Estado de algum endereço do cliente", example = "SP")
+    private String estado;
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import org.springframework.http.MediaType;
+
+public enum FormatoExportacao {
+    EXCEL("xlsx", MediaType.APPLICATION_OCTET_STREAM),
+    PDF("pdf", MediaType.APPLICATION_PDF);
+
+    private final String extensao;
+    private final MediaType mediaType;
+
+    FormatoExportacao(String extensao, MediaType mediaType) {
+        this.extensao = extensao;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import com.example.backend.exception.ClienteException;
+
+public enum FormatoImportacao {
+    CSV, XLSX, NDJSON;
+
+    public static FormatoImportacao deNomeArquivo(String nomeArquivo) throws ClienteException {
+        String nome = nomeArquivo != null ? nomeArquivo.toLowerCase() : "";
+        if (nome.endsWith(".csv")) {
+            return CSV;
+        }
+        if (nome.endsWith(".xlsx")) {
+            return XLSX;
+        }
+        if (nome.endsWith(".ndjson") || nome.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new ClienteException("Formato de arquivo não suportado: " + nomeArquivo);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import org.springframework.http.MediaType;
+
+public enum FormatoTransmissao {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    JSON(MediaType.APPLICATION_JSON);
+
+    private final MediaType mediaType;
+
+    FormatoTransmissao(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Cliente;
+
+import java.util.function.Function;
+
+/**
+ * Campos aceitos para ordenar a listagem paginada de clientes.
+ * O ID é sempre usado como critério de desempate.
+ */
+public enum OrdenacaoCliente {
+    NOME("nomeOuRazaoSocial", Cliente::getNomeOuRazaoSocial),
+    EMAIL("email", Cliente::getEmail),
+    ID("id", cliente -> null);
+
+    private final String atributo;
+    private final Function<Cliente, String> valor;
+
+    OrdenacaoCliente(String atributo, Function<Cliente, String> valor) {
+        this.atributo = atributo;
+        this.valor = valor;
+    }
+
+    public String getAtributo() {
+        return atributo;
+    }
+
+    public String valorDe(Cliente cliente) {
+        return valor.apply(cliente);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginaDTO<T> {
+
+    @Schema(description = "Itens da página")
+    private List<T> conteudo;
+
+    @Schema(description = "Tamanho de página utilizado", example = "20")
+    private int tamanho;
+
+    @Schema(description = "Cursor para buscar a próxima página; ausente na última")
+    private String proximoCursor;
+
+    @Schema(description = "Total de registros do filtro, quando solicitado")
+    private Long total;
+}
@@ -0,0 +1,30 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ResultadoImportacaoDTO {
+
+    @Schema(description = "Linhas de dados lidas do arquivo", example = "10000")
+    private long totalLinhas;
+
+    @Schema(description = "Clientes gravados", example = "9990")
+    private long importados;
+
+    @Schema(description = "Linhas rejeitadas", example = "10")
+    private long rejeitados;
+
+    @Schema(description = "Erros por linha rejeitada")
+    private List<ErroImportacaoDTO> erros = new ArrayList<>();
+
+    public void rejeitar(long linha, List<String> mensagens) {
+        rejeitados++;
+        erros.add(new ErroImportacaoDTO(linha, mensagens));
+    }
+}
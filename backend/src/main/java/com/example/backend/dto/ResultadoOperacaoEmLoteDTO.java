@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoOperacaoEmLoteDTO {
+
+    @Schema(description = "Clientes informados na requisição", example = "1000")
+    private long solicitados;
+
+    @Schema(description = "Clientes efetivamente alterados ou removidos", example = "998")
+    private long afetados;
+}
@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Agregado barato de um conjunto de clientes, usado para derivar o ETag das listagens:
+ * muda quando algum cliente é criado (total/maior ID), alterado (soma das versões) ou excluído (total).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoVersoesDTO {
+
+    private Long total;
+
+    private Long somaVersoes;
+
+    private Long maiorId;
+}
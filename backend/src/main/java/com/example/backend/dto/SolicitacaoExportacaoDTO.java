@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolicitacaoExportacaoDTO {
+
+    @NotNull(message = "Formato é obrigatório")
+    @Schema(description = "Formato do arquivo gerado", example = "EXCEL")
+    private FormatoExportacao formato;
+
+    @Schema(description = "Filtros aplicados aos clientes exportados")
+    private FiltroClienteDTO filtro;
+}
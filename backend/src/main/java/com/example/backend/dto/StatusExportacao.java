@@ -0,0 +1,8 @@
+package com.example.backend.dto;
+
+public enum StatusExportacao {
+    PENDENTE,
+    EXECUTANDO,
+    CONCLUIDA,
+    FALHOU
+}
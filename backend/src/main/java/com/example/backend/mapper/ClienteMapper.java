@@ -12,6 +12,12 @@ public interface ClienteMapper {
     ClienteMapper INSTANCE = Mappers.getMapper(ClienteMapper.class);
 
     @Mapping(target = "enderecos", source = "enderecos")
+    @Mapping(target = "versao", ignore = true) // Versão é controlada pelo Hibernate
+    @Mapping(target = "criadoEm", ignore = true)
+    @Mapping(target = "atualizadoEm", ignore = true)
+    @Mapping(target = "nomeOuRazaoSocial", ignore = true) // Colunas derivadas, preenchidas no @PrePersist/@PreUpdate
+    @Mapping(target = "cpfCnpjNormalizado", ignore = true)
+    @Mapping(target = "emailNormalizado", ignore = true)
     Cliente toEntity(ClienteDTO clienteDTO);
 
     @Mapping(target = "enderecos", source = "enderecos")
@@ -12,8 +12,21 @@ import org.mapstruct.factory.Mappers;
 public interface EnderecoMapper {
 
     @Mapping(target = "cliente", ignore = true) // Ignora cliente ao converter DTO -> entidade
+    @Mapping(target = "versao", ignore = true) // Versão, carimbos e principal são controlados pela entidade
+    @Mapping(target = "criadoEm", ignore = true)
+    @Mapping(target = "atualizadoEm", ignore = true)
+    @Mapping(target = "principal", ignore = true)
     Endereco toEntity(EnderecoDTO dto);
 
     @Mapping(target = "clienteId", source = "cliente.id") // Converte entidade -> DTO usando só o ID
     EnderecoDTO toDto(Endereco endereco);
+
+    // Copia os campos do DTO para a entidade gerenciada; só o que mudar vira UPDATE
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "cliente", ignore = true)
+    @Mapping(target = "versao", ignore = true)
+    @Mapping(target = "criadoEm", ignore = true)
+    @Mapping(target = "atualizadoEm", ignore = true)
+    @Mapping(target = "principal", ignore = true)
+    void atualizar(EnderecoDTO dto, @MappingTarget Endereco endereco);
 }
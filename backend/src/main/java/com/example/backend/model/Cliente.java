@@ -1,57 +1,120 @@
 package com.example.backend.model;
 
+import com.example.backend.config.AnalisadoresBusca;
+import com.example.backend.util.NormalizacaoCliente;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 import javax.persistence.*;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "cliente")
+@Table(name = "cliente", indexes = {
+        @Index(name = "idx_cliente_tipo_pessoa", columnList = "tipo_pessoa"),
+        @Index(name = "idx_cliente_ativo", columnList = "ativo"),
+        @Index(name = "idx_cliente_nome_ou_razao_social", columnList = "nome_ou_razao_social, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Cliente.UK_CPF_CNPJ_NORMALIZADO, columnNames = "cpf_cnpj_normalizado"),
+        @UniqueConstraint(name = Cliente.UK_EMAIL_NORMALIZADO, columnNames = "email_normalizado")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
+@Indexed(index = "clientes")
 public class Cliente {
 
+    public static final String UK_CPF_CNPJ_NORMALIZADO = "uk_cliente_cpf_cnpj_normalizado";
+    public static final String UK_EMAIL_NORMALIZADO = "uk_cliente_email_normalizado";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
+    @KeywordField
     private TipoPessoa tipoPessoa;
 
     @Column(unique = true)
     private String cpfCnpj;
 
+    @FullTextField(analyzer = AnalisadoresBusca.ANALISADOR_PORTUGUES)
+    @FullTextField(name = "nome_prefixo", analyzer = AnalisadoresBusca.ANALISADOR_PREFIXO,
+            searchAnalyzer = AnalisadoresBusca.ANALISADOR_TEXTO)
     private String nome; // Para PF
 
     private String rg; // Para PF
 
     private LocalDate dataNascimento; // Para PF
 
+    @FullTextField(analyzer = AnalisadoresBusca.ANALISADOR_PORTUGUES)
+    @FullTextField(name = "razaoSocial_prefixo", analyzer = AnalisadoresBusca.ANALISADOR_PREFIXO,
+            searchAnalyzer = AnalisadoresBusca.ANALISADOR_TEXTO)
     private String razaoSocial; // Para PJ
 
     private String inscricaoEstadual; // Para PJ
 
     private LocalDate dataCriacao; // Para PJ
 
+    // Nome (PF) ou razão social (PJ), mantido para ordenar e paginar por índice
+    private String nomeOuRazaoSocial;
+
+    // Chaves canônicas únicas: garantem a duplicidade no banco e servem ao filtro por prefixo e à busca por documento
+    @KeywordField
+    private String cpfCnpjNormalizado;
+
+    private String emailNormalizado;
+
     @Column(nullable = false, unique = true)
+    @FullTextField(analyzer = AnalisadoresBusca.ANALISADOR_PREFIXO, searchAnalyzer = AnalisadoresBusca.ANALISADOR_TEXTO)
     private String email;
 
     @Column(nullable = false)
     private Boolean ativo = true;
 
+    // Controle de concorrência otimista e base dos ETags; o default preenche as linhas já existentes
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long versao;
+
+    // Carimbos de criação e da última alteração; o default preenche as linhas já existentes
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false, columnDefinition = "datetime(6) default current_timestamp(6)")
+    private Instant criadoEm;
+
+    @UpdateTimestamp
+    @Column(nullable = false, columnDefinition = "datetime(6) default current_timestamp(6)")
+    private Instant atualizadoEm;
+
     @OneToMany(mappedBy = "cliente", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
+    @IndexedEmbedded(includePaths = {"cidade", "cidade_prefixo", "estado", "cep"})
     private List<Endereco> enderecos = new ArrayList<>();
 
+    @PrePersist
+    @PreUpdate
+    private void preencherColunasDerivadas() {
+        String valor = tipoPessoa == TipoPessoa.FISICA ? nome : razaoSocial;
+        nomeOuRazaoSocial = valor != null ? valor : "";
+        cpfCnpjNormalizado = NormalizacaoCliente.cpfCnpj(cpfCnpj);
+        emailNormalizado = NormalizacaoCliente.email(email);
+    }
+
     public enum TipoPessoa {
         FISICA, JURIDICA
     }
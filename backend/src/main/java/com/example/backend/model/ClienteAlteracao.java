@@ -0,0 +1,45 @@
+package com.example.backend.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Outbox das alterações de clientes e endereços, gravado no fim da transação da alteração.
+ * As linhas são inseridas em lote por {@code AlteracoesClienteService}, sem passar por esta entidade.
+ * O ID é a sequência do feed de alterações: só cresce e é a base dos tokens entregues aos consumidores.
+ */
+@Entity
+@Table(name = "cliente_alteracao", indexes = {
+        @Index(name = "idx_cliente_alteracao_registrada_em", columnList = "registrada_em")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClienteAlteracao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Sem chave estrangeira: a linha continua existindo depois da exclusão do cliente
+    @Column(nullable = false)
+    private Long clienteId;
+
+    // Preenchido quando a alteração foi em um endereço do cliente
+    private Long enderecoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Operacao operacao;
+
+    @Column(nullable = false)
+    private Instant registradaEm;
+
+    public enum Operacao {
+        CRIACAO, ATUALIZACAO, EXCLUSAO
+    }
+}
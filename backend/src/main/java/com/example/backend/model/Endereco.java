@@ -1,19 +1,30 @@
 package com.example.backend.model;
 
+import com.example.backend.config.AnalisadoresBusca;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 import javax.persistence.*;
+import java.time.Instant;
 
 @Entity
-@Table(name = "endereco")
+@Table(name = "endereco", indexes = {
+        @Index(name = "idx_endereco_cidade", columnList = "cidade, cliente_id"),
+        @Index(name = "idx_endereco_estado", columnList = "estado, cliente_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 public class Endereco {
 
     @Id
@@ -27,6 +38,7 @@ public class Endereco {
     private String numero;
 
     @Column(nullable = false)
+    @FullTextField(analyzer = AnalisadoresBusca.ANALISADOR_CEP_PREFIXO, searchAnalyzer = AnalisadoresBusca.ANALISADOR_CEP)
     private String cep;
 
     @Column(nullable = false)
@@ -35,9 +47,13 @@ public class Endereco {
     private String telefone;
 
     @Column(nullable = false)
+    @FullTextField(analyzer = AnalisadoresBusca.ANALISADOR_PORTUGUES)
+    @FullTextField(name = "cidade_prefixo", analyzer = AnalisadoresBusca.ANALISADOR_PREFIXO,
+            searchAnalyzer = AnalisadoresBusca.ANALISADOR_TEXTO)
     private String cidade;
 
     @Column(nullable = false)
+    @KeywordField(normalizer = AnalisadoresBusca.NORMALIZADOR)
     private String estado;
 
     @Column(nullable = false)
@@ -46,6 +62,18 @@ public class Endereco {
 
     private String complemento;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long versao;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false, columnDefinition = "datetime(6) default current_timestamp(6)")
+    private Instant criadoEm;
+
+    @UpdateTimestamp
+    @Column(nullable = false, columnDefinition = "datetime(6) default current_timestamp(6)")
+    private Instant atualizadoEm;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cliente_id", nullable = false)
     @JsonBackReference
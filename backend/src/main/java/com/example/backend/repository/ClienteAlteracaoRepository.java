@@ -0,0 +1,27 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.ClienteAlteracao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ClienteAlteracaoRepository extends JpaRepository<ClienteAlteracao, Long> {
+
+    @Query("SELECT a FROM ClienteAlteracao a WHERE a.id > :apos ORDER BY a.id")
+    List<ClienteAlteracao> buscarApos(@Param("apos") long apos, Pageable pagina);
+
+    @Query("SELECT MAX(a.id) FROM ClienteAlteracao a WHERE a.registradaEm <= :ate")
+    Optional<Long> findUltimaSequenciaAte(@Param("ate") Instant ate);
+
+    @Modifying
+    @Query("DELETE FROM ClienteAlteracao a WHERE a.registradaEm < :limite")
+    int excluirAnterioresA(@Param("limite") Instant limite);
+}
@@ -1,15 +1,25 @@
 package com.example.backend.repository;
 
 import com.example.backend.model.Cliente;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+public interface ClienteRepository extends JpaRepository<Cliente, Long>, ClienteRepositoryCustom {
 
     Optional<Cliente> findByCpfCnpj(String cpfCnpj);
 
@@ -19,5 +29,80 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
 
     boolean existsByEmail(String email);
 
+    boolean existsByCpfCnpjNormalizado(String cpfCnpjNormalizado);
+
+    boolean existsByEmailNormalizado(String emailNormalizado);
+
+    boolean existsByCpfCnpjNormalizadoAndIdNot(String cpfCnpjNormalizado, Long id);
+
+    boolean existsByEmailNormalizadoAndIdNot(String emailNormalizado, Long id);
+
     List<Cliente> findByAtivoTrue();
+
+    // Recebem e devolvem chaves já normalizadas
+    @Query("SELECT c.cpfCnpjNormalizado FROM Cliente c WHERE c.cpfCnpjNormalizado IN :cpfCnpjs")
+    List<String> findCpfCnpjExistentes(@Param("cpfCnpjs") Collection<String> cpfCnpjs);
+
+    @Query("SELECT c.emailNormalizado FROM Cliente c WHERE c.emailNormalizado IN :emails")
+    List<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
+
+    // Variantes que já trazem os endereços, evitando um SELECT extra por cliente no mapeamento.
+    // Usadas só para leitura: as entidades vêm sem snapshot para dirty checking
+    @EntityGraph(attributePaths = "enderecos")
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    Optional<Cliente> findComEnderecosById(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT DISTINCT c FROM Cliente c LEFT JOIN FETCH c.enderecos")
+    List<Cliente> findAllComEnderecos();
+
+    @QueryHints({
+            @QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT DISTINCT c FROM Cliente c LEFT JOIN FETCH c.enderecos WHERE c.ativo = true")
+    List<Cliente> findAtivosComEnderecos();
+
+    @QueryHints({
+            @QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT DISTINCT c FROM Cliente c LEFT JOIN FETCH c.enderecos WHERE c.id IN :ids")
+    List<Cliente> findComEnderecosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Cliente c SET c.nomeOuRazaoSocial = COALESCE(" +
+            "CASE WHEN c.tipoPessoa = com.example.backend.model.Cliente$TipoPessoa.FISICA THEN c.nome ELSE c.razaoSocial END, '') " +
+            "WHERE c.nomeOuRazaoSocial IS NULL")
+    int preencherNomeOuRazaoSocial();
+
+    @Query("SELECT c.versao FROM Cliente c WHERE c.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    // Usados pelas operações em lote para registrar no outbox só os clientes de fato afetados
+    @Query("SELECT c.id FROM Cliente c WHERE c.id IN :ids")
+    List<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id FROM Cliente c WHERE c.id IN :ids AND c.ativo <> :ativo")
+    List<Long> findIdsComStatusDiferente(@Param("ids") Collection<Long> ids, @Param("ativo") boolean ativo);
+
+    // UPDATEs em massa não passam pelo @Version nem pelo @UpdateTimestamp: versão e carimbo são atualizados
+    // explicitamente para invalidar os ETags e refletir a alteração
+    @Modifying
+    @Query("UPDATE Cliente c SET c.versao = c.versao + 1, c.atualizadoEm = :agora WHERE c.id = :id")
+    int incrementarVersao(@Param("id") Long id, @Param("agora") Instant agora);
+
+    @Modifying
+    @Query("UPDATE Cliente c SET c.ativo = :ativo, c.versao = c.versao + 1, c.atualizadoEm = :agora " +
+            "WHERE c.id IN :ids AND c.ativo <> :ativo")
+    int atualizarStatusPorIds(@Param("ids") Collection<Long> ids, @Param("ativo") boolean ativo,
+                              @Param("agora") Instant agora);
+
+    // Exclusões em lote, sem carregar entidades; os endereços devem ser removidos antes
+    @Modifying
+    @Query("DELETE FROM Cliente c WHERE c.id IN :ids")
+    int excluirPorIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
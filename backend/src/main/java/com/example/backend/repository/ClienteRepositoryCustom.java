@@ -0,0 +1,50 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.ClienteExportacaoDTO;
+import com.example.backend.dto.FiltroClienteDTO;
+import com.example.backend.dto.OrdenacaoCliente;
+import com.example.backend.dto.ResumoVersoesDTO;
+import com.example.backend.model.Cliente;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ClienteRepositoryCustom {
+
+    /**
+     * Busca uma página de clientes. Quando {@code idApos} é informado, a página começa
+     * logo depois desse registro (paginação por chave), sem percorrer as linhas anteriores.
+     */
+    List<Cliente> buscarPagina(FiltroClienteDTO filtro, OrdenacaoCliente ordenacao, Sort.Direction direcao,
+                               String valorApos, Long idApos, int offset, int limite);
+
+    long contar(FiltroClienteDTO filtro);
+
+    /**
+     * Total, soma das versões e maior ID dos clientes do filtro, em uma única agregação.
+     */
+    ResumoVersoesDTO resumirVersoes(FiltroClienteDTO filtro);
+
+    /**
+     * Uma única consulta para a exportação: cliente + endereço principal (ou o de menor ID).
+     * Leitura em cursor: deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<ClienteExportacaoDTO> streamParaExportacao(FiltroClienteDTO filtro);
+
+    /**
+     * Clientes do filtro em ordem de ID, lidos em cursor e sem snapshot para dirty checking.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<Cliente> streamClientes(FiltroClienteDTO filtro);
+
+    /**
+     * Desanexa todas as entidades carregadas, liberando a memória durante leituras longas.
+     */
+    void limparContexto();
+
+    /**
+     * IDs dos clientes do filtro que ainda não estão no status informado, em ordem de ID, até o limite.
+     */
+    List<Long> buscarIdsParaAlterarStatus(FiltroClienteDTO filtro, boolean ativo, int limite);
+}
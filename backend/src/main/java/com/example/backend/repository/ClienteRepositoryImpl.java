@@ -0,0 +1,198 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.ClienteExportacaoDTO;
+import com.example.backend.dto.FiltroClienteDTO;
+import com.example.backend.dto.OrdenacaoCliente;
+import com.example.backend.dto.ResumoVersoesDTO;
+import com.example.backend.model.Cliente;
+import com.example.backend.model.Endereco;
+import com.example.backend.util.NormalizacaoCliente;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public class ClienteRepositoryImpl implements ClienteRepositoryCustom {
+
+    private static final int TAMANHO_FETCH_EXPORTACAO = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Cliente> buscarPagina(FiltroClienteDTO filtro, OrdenacaoCliente ordenacao, Sort.Direction direcao,
+                                      String valorApos, Long idApos, int offset, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Cliente> query = cb.createQuery(Cliente.class);
+        Root<Cliente> cliente = query.from(Cliente.class);
+
+        List<Predicate> predicados = filtrar(cb, query, cliente, filtro);
+        Path<Long> id = cliente.get("id");
+        boolean ascendente = direcao.isAscending();
+
+        if (ordenacao == OrdenacaoCliente.ID) {
+            if (idApos != null) {
+                predicados.add(ascendente ? cb.greaterThan(id, idApos) : cb.lessThan(id, idApos));
+            }
+            query.orderBy(ascendente ? cb.asc(id) : cb.desc(id));
+        } else {
+            Path<String> campo = cliente.get(ordenacao.getAtributo());
+            if (idApos != null) {
+                // (campo, id) > (valorApos, idApos), escrito de forma que o índice composto seja usado
+                Predicate depoisDoValor = ascendente ? cb.greaterThan(campo, valorApos) : cb.lessThan(campo, valorApos);
+                Predicate mesmoValor = cb.and(cb.equal(campo, valorApos),
+                        ascendente ? cb.greaterThan(id, idApos) : cb.lessThan(id, idApos));
+                predicados.add(cb.or(depoisDoValor, mesmoValor));
+            }
+            query.orderBy(ascendente ? cb.asc(campo) : cb.desc(campo), ascendente ? cb.asc(id) : cb.desc(id));
+        }
+
+        query.select(cliente).where(predicados.toArray(new Predicate[0]));
+        return entityManager.createQuery(query)
+                .setHint(HINT_READONLY, true)
+                .setFirstResult(offset)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public long contar(FiltroClienteDTO filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Cliente> cliente = query.from(Cliente.class);
+
+        List<Predicate> predicados = filtrar(cb, query, cliente, filtro);
+        query.select(cb.count(cliente)).where(predicados.toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public ResumoVersoesDTO resumirVersoes(FiltroClienteDTO filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ResumoVersoesDTO> query = cb.createQuery(ResumoVersoesDTO.class);
+        Root<Cliente> cliente = query.from(Cliente.class);
+
+        List<Predicate> predicados = filtrar(cb, query, cliente, filtro);
+        query.select(cb.construct(ResumoVersoesDTO.class,
+                        cb.count(cliente), cb.sum(cliente.<Long>get("versao")), cb.max(cliente.<Long>get("id"))))
+                .where(predicados.toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Stream<ClienteExportacaoDTO> streamParaExportacao(FiltroClienteDTO filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ClienteExportacaoDTO> query = cb.createQuery(ClienteExportacaoDTO.class);
+        Root<Cliente> cliente = query.from(Cliente.class);
+        Join<Cliente, Endereco> endereco = cliente.join("enderecos", JoinType.LEFT);
+
+        // Endereço escolhido: o principal de menor ID ou, se não houver principal, o de menor ID
+        Subquery<Long> existePrincipal = query.subquery(Long.class);
+        Root<Endereco> outro = existePrincipal.from(Endereco.class);
+        existePrincipal.select(outro.get("id"))
+                .where(cb.equal(outro.get("cliente"), cliente), cb.isTrue(outro.get("enderecoPrincipal")));
+
+        Subquery<Long> escolhido = query.subquery(Long.class);
+        Root<Endereco> candidato = escolhido.from(Endereco.class);
+        escolhido.select(cb.min(candidato.get("id")))
+                .where(cb.equal(candidato.get("cliente"), cliente),
+                        cb.or(cb.isTrue(candidato.get("enderecoPrincipal")), cb.not(cb.exists(existePrincipal))));
+
+        List<Predicate> predicados = filtrar(cb, query, cliente, filtro);
+        predicados.add(cb.or(cb.isNull(endereco.get("id")), cb.equal(endereco.get("id"), escolhido)));
+
+        query.select(cb.construct(ClienteExportacaoDTO.class,
+                        cliente.get("id"), cliente.get("tipoPessoa"), cliente.get("cpfCnpj"), cliente.get("nome"),
+                        cliente.get("razaoSocial"), cliente.get("email"), endereco.get("telefone"),
+                        endereco.get("cep"), cliente.get("ativo")))
+                .where(predicados.toArray(new Predicate[0]))
+                .orderBy(cb.asc(cliente.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HINT_FETCH_SIZE, TAMANHO_FETCH_EXPORTACAO)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<Cliente> streamClientes(FiltroClienteDTO filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Cliente> query = cb.createQuery(Cliente.class);
+        Root<Cliente> cliente = query.from(Cliente.class);
+
+        List<Predicate> predicados = filtrar(cb, query, cliente, filtro);
+        query.select(cliente)
+                .where(predicados.toArray(new Predicate[0]))
+                .orderBy(cb.asc(cliente.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HINT_FETCH_SIZE, TAMANHO_FETCH_EXPORTACAO)
+                .setHint(HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public void limparContexto() {
+        entityManager.clear();
+    }
+
+    @Override
+    public List<Long> buscarIdsParaAlterarStatus(FiltroClienteDTO filtro, boolean ativo, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Cliente> cliente = query.from(Cliente.class);
+
+        List<Predicate> predicados = filtrar(cb, query, cliente, filtro);
+        // Linhas que já estão no status desejado não são reescritas
+        predicados.add(cb.notEqual(cliente.get("ativo"), ativo));
+
+        query.select(cliente.get("id"))
+                .where(predicados.toArray(new Predicate[0]))
+                .orderBy(cb.asc(cliente.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+    }
+
+    private List<Predicate> filtrar(CriteriaBuilder cb, CommonAbstractCriteria query, Root<Cliente> cliente,
+                                    FiltroClienteDTO filtro) {
+        List<Predicate> predicados = new ArrayList<>();
+        if (filtro == null) {
+            return predicados;
+        }
+
+        if (filtro.getTipoPessoa() != null) {
+            predicados.add(cb.equal(cliente.get("tipoPessoa"), filtro.getTipoPessoa()));
+        }
+        if (filtro.getAtivo() != null) {
+            predicados.add(cb.equal(cliente.get("ativo"), filtro.getAtivo()));
+        }
+        // Prefixo comparado só pelos dígitos: "123.456" e "123456" encontram os mesmos clientes
+        String prefixoCpfCnpj = NormalizacaoCliente.cpfCnpj(filtro.getCpfCnpj());
+        if (prefixoCpfCnpj != null && !prefixoCpfCnpj.isEmpty()) {
+            predicados.add(cb.like(cliente.get("cpfCnpjNormalizado"), prefixoCpfCnpj + "%"));
+        }
+
+        // Cidade/estado pertencem aos endereços: EXISTS evita duplicar clientes com vários endereços
+        if (filtro.getCidade() != null || filtro.getEstado() != null) {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Endereco> endereco = subquery.from(Endereco.class);
+            List<Predicate> predicadosEndereco = new ArrayList<>();
+            predicadosEndereco.add(cb.equal(endereco.get("cliente"), cliente));
+            if (filtro.getCidade() != null) {
+                predicadosEndereco.add(cb.equal(endereco.get("cidade"), filtro.getCidade()));
+            }
+            if (filtro.getEstado() != null) {
+                predicadosEndereco.add(cb.equal(endereco.get("estado"), filtro.getEstado()));
+            }
+            subquery.select(endereco.get("id")).where(predicadosEndereco.toArray(new Predicate[0]));
+            predicados.add(cb.exists(subquery));
+        }
+
+        return predicados;
+    }
+}
@@ -7,10 +7,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface EnderecoRepository extends JpaRepository<Endereco, Long> {
+public interface EnderecoRepository extends JpaRepository<Endereco, Long>, EnderecoRepositoryCustom {
 
     List<Endereco> findByClienteId(Long clienteId);
 
@@ -20,6 +21,17 @@ public interface EnderecoRepository extends JpaRepository<Endereco, Long> {
     @Query("DELETE FROM Endereco e WHERE e.cliente.id = :clienteId")
     void deleteByClienteId(@Param("clienteId") Long clienteId);
 
+    @Modifying
+    @Query("DELETE FROM Endereco e WHERE e.cliente.id IN :clienteIds")
+    int deleteByClienteIdIn(@Param("clienteIds") Collection<Long> clienteIds);
+
+    @Modifying
+    @Query("DELETE FROM Endereco e WHERE e.cliente.id = :clienteId AND e.id IN :ids")
+    void deleteByClienteIdAndIdIn(@Param("clienteId") Long clienteId, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e.cliente.id FROM Endereco e WHERE e.id = :id")
+    Long findClienteIdById(@Param("id") Long id);
+
     @Query("SELECT e.cep FROM Endereco e WHERE e.id = :id")
     String getCepByEnderecoId(Long id);
 
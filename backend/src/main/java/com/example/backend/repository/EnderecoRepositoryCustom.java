@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.EnderecoDTO;
+
+import java.util.List;
+
+public interface EnderecoRepositoryCustom {
+
+    /**
+     * Insere os endereços com JDBC em batch (com rewriteBatchedStatements, INSERTs de várias linhas), sem passar
+     * pelo Hibernate: com IDENTITY o Hibernate insere um a um. Cada DTO deve trazer o clienteId; os endereços
+     * não entram no contexto de persistência nem no índice de busca, que precisa ser atualizado por quem chama.
+     */
+    void inserirEmLote(List<EnderecoDTO> enderecos, int tamanhoLote);
+}
@@ -0,0 +1,44 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.EnderecoDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+public class EnderecoRepositoryImpl implements EnderecoRepositoryCustom {
+
+    private static final String INSERT_ENDERECO = "INSERT INTO endereco (logradouro, numero, cep, bairro, " +
+            "telefone, cidade, estado, endereco_principal, principal, complemento, cliente_id, criado_em, " +
+            "atualizado_em, versao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnderecoRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void inserirEmLote(List<EnderecoDTO> enderecos, int tamanhoLote) {
+        if (enderecos.isEmpty()) {
+            return;
+        }
+        Timestamp agora = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_ENDERECO, enderecos, tamanhoLote, (ps, endereco) -> {
+            ps.setString(1, endereco.getLogradouro());
+            ps.setString(2, endereco.getNumero());
+            ps.setString(3, endereco.getCep());
+            ps.setString(4, endereco.getBairro());
+            ps.setString(5, endereco.getTelefone());
+            ps.setString(6, endereco.getCidade());
+            ps.setString(7, endereco.getEstado());
+            ps.setBoolean(8, endereco.isEnderecoPrincipal());
+            ps.setBoolean(9, false);
+            ps.setString(10, endereco.getComplemento());
+            ps.setLong(11, endereco.getClienteId());
+            ps.setTimestamp(12, agora);
+            ps.setTimestamp(13, agora);
+        });
+    }
+}
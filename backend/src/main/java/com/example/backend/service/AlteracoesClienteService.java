@@ -0,0 +1,225 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.AlteracaoClienteDTO;
+import com.example.backend.dto.AlteracoesClientesDTO;
+import com.example.backend.exception.ClienteException;
+import com.example.backend.mapper.ClienteMapper;
+import com.example.backend.model.Cliente;
+import com.example.backend.model.ClienteAlteracao;
+import com.example.backend.repository.ClienteAlteracaoRepository;
+import com.example.backend.repository.ClienteRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox e feed de alterações de clientes, para que sistemas externos sincronizem só o que mudou.
+ *
+ * <p>As alterações são gravadas na mesma transação que altera o cliente ou o endereço, e o ID da linha é a
+ * sequência do feed. Durante a transação elas só são acumuladas; todas as linhas são inseridas de uma vez
+ * imediatamente antes do commit, com o horário desse momento. Como o ID é atribuído no INSERT e não no commit,
+ * o feed só entrega linhas registradas há mais de {@code app.alteracoes.atraso-leitura}, mas esse intervalo
+ * só precisa cobrir o próprio commit, não a duração da transação.
+ */
+@Slf4j
+@Service
+public class AlteracoesClienteService {
+
+    private static final int TAMANHO_MAXIMO_LOTE = 500;
+
+    private static final String INSERT_ALTERACAO =
+            "INSERT INTO cliente_alteracao (cliente_id, endereco_id, operacao, registrada_em) VALUES (?, ?, ?, ?)";
+
+    private final ClienteAlteracaoRepository alteracaoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClienteRepository clienteRepository;
+    private final ClienteMapper clienteMapper;
+    private final Duration atrasoLeitura;
+    private final Duration retencao;
+
+    public AlteracoesClienteService(ClienteAlteracaoRepository alteracaoRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    ClienteRepository clienteRepository,
+                                    ClienteMapper clienteMapper,
+                                    @Value("${app.alteracoes.atraso-leitura:5s}") Duration atrasoLeitura,
+                                    @Value("${app.alteracoes.retencao:7d}") Duration retencao) {
+        this.alteracaoRepository = alteracaoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clienteRepository = clienteRepository;
+        this.clienteMapper = clienteMapper;
+        this.atrasoLeitura = atrasoLeitura;
+        this.retencao = retencao;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Long clienteId, Long enderecoId, ClienteAlteracao.Operacao operacao) {
+        if (clienteId != null) {
+            pendentes().add(new Pendente(clienteId, enderecoId, operacao));
+        }
+    }
+
+    // Os IDs devem ser só os clientes de fato afetados: a lista não é conferida contra a tabela
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Collection<Long> clienteIds, ClienteAlteracao.Operacao operacao) {
+        List<Pendente> pendentes = pendentes();
+        clienteIds.forEach(clienteId -> pendentes.add(new Pendente(clienteId, null, operacao)));
+    }
+
+    // Uma lista por transação, gravada pela sincronização registrada junto com ela
+    private List<Pendente> pendentes() {
+        GravacaoNoCommit gravacao = (GravacaoNoCommit) TransactionSynchronizationManager.getResource(this);
+        if (gravacao == null) {
+            gravacao = new GravacaoNoCommit();
+            TransactionSynchronizationManager.bindResource(this, gravacao);
+            TransactionSynchronizationManager.registerSynchronization(gravacao);
+        }
+        return gravacao.pendentes;
+    }
+
+    // Com rewriteBatchedStatements o driver envia o lote como um único INSERT de várias linhas
+    private void gravar(List<Pendente> pendentes) {
+        Timestamp agora = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_ALTERACAO, pendentes, pendentes.size(), (ps, pendente) -> {
+            ps.setLong(1, pendente.clienteId());
+            ps.setObject(2, pendente.enderecoId(), Types.BIGINT);
+            ps.setString(3, pendente.operacao().name());
+            ps.setTimestamp(4, agora);
+        });
+    }
+
+    /**
+     * Lote de alterações após o token. Sem token, devolve apenas a posição atual do feed: o consumidor
+     * guarda o token, faz a carga completa e a partir daí acompanha só as alterações (as que ocorrerem
+     * durante a carga são entregues de novo, então a aplicação precisa ser idempotente).
+     */
+    @Timed("clientes.servico")
+    @Transactional(readOnly = true)
+    public AlteracoesClientesDTO listar(String since, int tamanho) throws ClienteException {
+        int limite = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_LOTE));
+        Instant horizonte = Instant.now().minus(atrasoLeitura);
+
+        if (since == null || since.isBlank()) {
+            long atual = alteracaoRepository.findUltimaSequenciaAte(horizonte).orElse(0L);
+            return new AlteracoesClientesDTO(List.of(), codificarToken(atual, horizonte), false);
+        }
+
+        long apos = decodificarToken(since);
+        // Busca um registro a mais só para saber se o lote ficou cheio
+        List<ClienteAlteracao> linhas = alteracaoRepository.buscarApos(apos, PageRequest.of(0, limite + 1));
+        List<ClienteAlteracao> lote = new ArrayList<>(Math.min(linhas.size(), limite));
+        boolean temMais = false;
+        for (ClienteAlteracao linha : linhas) {
+            // Para no primeiro registro recente: um anterior a ele ainda pode estar em uma transação aberta
+            if (linha.getRegistradaEm().isAfter(horizonte)) {
+                break;
+            }
+            if (lote.size() == limite) {
+                temMais = true;
+                break;
+            }
+            lote.add(linha);
+        }
+        if (lote.isEmpty()) {
+            return new AlteracoesClientesDTO(List.of(), codificarToken(apos, horizonte), false);
+        }
+
+        // Um item por cliente, na posição da sua última alteração no lote
+        Map<Long, ClienteAlteracao> ultimas = new LinkedHashMap<>();
+        for (ClienteAlteracao linha : lote) {
+            ultimas.remove(linha.getClienteId());
+            ultimas.put(linha.getClienteId(), linha);
+        }
+        Map<Long, Cliente> existentes = clienteRepository.findComEnderecosByIdIn(ultimas.keySet()).stream()
+                .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+
+        // Sempre o estado atual: um cliente ausente foi excluído, mesmo que a última linha do lote seja anterior
+        List<AlteracaoClienteDTO> alteracoes = new ArrayList<>(ultimas.size());
+        for (ClienteAlteracao ultima : ultimas.values()) {
+            Cliente cliente = existentes.get(ultima.getClienteId());
+            alteracoes.add(new AlteracaoClienteDTO(ultima.getId(), ultima.getClienteId(), ultima.getRegistradaEm(),
+                    cliente == null, cliente != null ? clienteMapper.toDto(cliente) : null));
+        }
+        long ultimaSequencia = lote.get(lote.size() - 1).getId();
+        return new AlteracoesClientesDTO(alteracoes, codificarToken(ultimaSequencia, horizonte), temMais);
+    }
+
+    @Scheduled(fixedDelayString = "${app.alteracoes.intervalo-limpeza:3600000}")
+    @Transactional
+    public void removerAntigas() {
+        int removidas = alteracaoRepository.excluirAnterioresA(Instant.now().minus(retencao));
+        if (removidas > 0) {
+            log.info("{} alterações de clientes anteriores à retenção de {} removidas", removidas, retencao);
+        }
+    }
+
+    private record Pendente(Long clienteId, Long enderecoId, ClienteAlteracao.Operacao operacao) {
+    }
+
+    private class GravacaoNoCommit implements TransactionSynchronization {
+
+        private final List<Pendente> pendentes = new ArrayList<>();
+
+        // Executado depois das escritas da transação e antes do COMMIT, após as demais sincronizações
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!pendentes.isEmpty()) {
+                gravar(pendentes);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AlteracoesClienteService.this);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    // O token guarda a sequência e quando foi emitido; depois da retenção as linhas seguintes podem ter sido removidas
+    private String codificarToken(long sequencia, Instant emitidoEm) {
+        String token = sequencia + ":" + emitidoEm.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodificarToken(String token) throws ClienteException {
+        long sequencia;
+        Instant emitidoEm;
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 2);
+            sequencia = Long.parseLong(partes[0]);
+            emitidoEm = Instant.ofEpochMilli(Long.parseLong(partes[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new ClienteException("Token de alterações inválido", e);
+        }
+        if (emitidoEm.isBefore(Instant.now().minus(retencao))) {
+            throw new ClienteException("Token de alterações expirado; refaça a carga completa a partir de um novo token");
+        }
+        return sequencia;
+    }
+}
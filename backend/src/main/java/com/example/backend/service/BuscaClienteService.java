@@ -0,0 +1,146 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.PaginaDTO;
+import com.example.backend.exception.ClienteException;
+import com.example.backend.mapper.ClienteMapper;
+import com.example.backend.model.Cliente;
+import com.example.backend.util.NormalizacaoCliente;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+/**
+ * Busca textual de clientes no índice Lucene (Hibernate Search).
+ * Escritas feitas via JPA são indexadas automaticamente; as feitas em lote (JDBC ou
+ * UPDATE/DELETE em massa) precisam avisar o índice por {@link #reindexar} e {@link #remover}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BuscaClienteService {
+
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+    // O Lucene coleta offset + tamanho resultados para montar uma página: páginas profundas ficam caras
+    private static final long JANELA_MAXIMA_RESULTADOS = 10_000;
+
+    private final ClienteMapper clienteMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<ClienteDTO> buscar(String termo, int pagina, int tamanho) throws ClienteException {
+        if (termo == null || termo.isBlank()) {
+            throw new ClienteException("Informe o termo de busca");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new ClienteException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+        if (pagina < 0) {
+            throw new ClienteException("Página não pode ser negativa");
+        }
+        long offset = Math.multiplyExact((long) pagina, tamanho);
+        if (offset + tamanho > JANELA_MAXIMA_RESULTADOS) {
+            throw new ClienteException("A busca pagina no máximo os primeiros " + JANELA_MAXIMA_RESULTADOS
+                    + " resultados; refine o termo");
+        }
+
+        // Documento com ou sem pontuação: compara só os dígitos, como no índice
+        String cpfCnpj = NormalizacaoCliente.cpfCnpj(termo.trim());
+
+        // Palavra inteira pesa mais que prefixo; o resultado vem ordenado por relevância
+        SearchResult<Cliente> resultado = Search.session(entityManager).search(Cliente.class)
+                .where(f -> {
+                    BooleanPredicateClausesStep<?> consulta = f.bool()
+                            .should(f.match()
+                                    .fields("nome", "razaoSocial", "enderecos.cidade").boost(3f)
+                                    .matching(termo))
+                            .should(f.match()
+                                    .fields("nome_prefixo", "razaoSocial_prefixo", "email", "enderecos.cidade_prefixo")
+                                    .matching(termo))
+                            .should(f.match().field("enderecos.cep").matching(termo).boost(2f));
+                    if (!cpfCnpj.isEmpty()) {
+                        consulta.should(f.match().field("cpfCnpjNormalizado").matching(cpfCnpj).boost(5f));
+                    }
+                    return consulta;
+                })
+                .fetch((int) offset, tamanho);
+
+        List<ClienteDTO> clientes = resultado.hits().stream()
+                .map(clienteMapper::toDto)
+                .collect(Collectors.toList());
+        return new PaginaDTO<>(clientes, tamanho, null, resultado.total().hitCount());
+    }
+
+    // Reindexa clientes gravados fora do Hibernate; aplicado no commit da transação corrente
+    public void reindexar(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        SearchIndexingPlan plano = Search.session(entityManager).indexingPlan();
+        entityManager.createQuery("SELECT DISTINCT c FROM Cliente c LEFT JOIN FETCH c.enderecos WHERE c.id IN :ids",
+                        Cliente.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(plano::addOrUpdate);
+    }
+
+    public void reindexar(Cliente cliente) {
+        Search.session(entityManager).indexingPlan().addOrUpdate(cliente);
+    }
+
+    // Remove do índice clientes excluídos com DELETE em massa
+    public void remover(Collection<Long> ids) {
+        SearchIndexingPlan plano = Search.session(entityManager).indexingPlan();
+        ids.forEach(id -> plano.purge(Cliente.class, id, null));
+    }
+
+    // Reconstrói o índice inteiro a partir do banco, em segundo plano
+    public CompletionStage<?> reconstruirIndice() {
+        return Search.mapping(entityManagerFactory).scope(Cliente.class).massIndexer()
+                .threadsToLoadObjects(2)
+                .batchSizeToLoadObjects(500)
+                .start()
+                .whenComplete((ok, erro) -> {
+                    if (erro != null) {
+                        log.error("Falha ao reconstruir o índice de clientes", erro);
+                    } else {
+                        log.info("Índice de clientes reconstruído");
+                    }
+                });
+    }
+
+    // Índice vazio com banco populado (primeira execução ou diretório apagado): reconstrói
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void indexarSeVazio() {
+        long indexados = Search.session(entityManager).search(Cliente.class)
+                .where(f -> f.matchAll())
+                .fetchTotalHitCount();
+        if (indexados == 0 && entityManager.createQuery("SELECT COUNT(c) FROM Cliente c", Long.class)
+                .getSingleResult() > 0) {
+            log.info("Índice de clientes vazio; reconstruindo a partir do banco");
+            reconstruirIndice();
+        }
+    }
+}
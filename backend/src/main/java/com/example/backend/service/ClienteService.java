@@ -1,10 +1,19 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.AlteracaoStatusEmLoteDTO;
 import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.FiltroClienteDTO;
+import com.example.backend.dto.FormatoTransmissao;
+import com.example.backend.dto.OrdenacaoCliente;
+import com.example.backend.dto.PaginaDTO;
+import com.example.backend.dto.ResultadoOperacaoEmLoteDTO;
+import com.example.backend.dto.ResumoVersoesDTO;
 import com.example.backend.exception.ClienteException;
 import com.itextpdf.text.DocumentException;
+import org.springframework.data.domain.Sort;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ClienteService {
@@ -15,15 +24,29 @@ public interface ClienteService {
 
     ClienteDTO buscarClientePorId(Long id) throws ClienteException;
 
+    Long buscarVersaoCliente(Long id) throws ClienteException;
+
+    ResumoVersoesDTO resumirVersoes(FiltroClienteDTO filtro);
+
     List<ClienteDTO> listarTodosClientes();
 
     List<ClienteDTO> listarClientesAtivos();
 
+    PaginaDTO<ClienteDTO> listarClientesPaginado(FiltroClienteDTO filtro, OrdenacaoCliente ordenarPor,
+                                                 Sort.Direction direcao, int tamanho, int pagina,
+                                                 String cursor, boolean incluirTotal) throws ClienteException;
+
     void excluirCliente(Long id) throws ClienteException;
 
+    ResultadoOperacaoEmLoteDTO excluirClientes(List<Long> ids) throws ClienteException;
+
     void ativarDesativarCliente(Long id, Boolean ativo) throws ClienteException;
 
-    byte[] exportarClientesParaExcel() throws ClienteException, IOException;
+    ResultadoOperacaoEmLoteDTO ativarDesativarClientes(AlteracaoStatusEmLoteDTO alteracao) throws ClienteException;
+
+    void transmitirClientes(FiltroClienteDTO filtro, FormatoTransmissao formato, OutputStream out) throws IOException;
+
+    void exportarClientesParaExcel(FiltroClienteDTO filtro, OutputStream out) throws IOException;
 
-    byte[] exportarClientesParaPdf() throws ClienteException, DocumentException;
+    void exportarClientesParaPdf(FiltroClienteDTO filtro, OutputStream out) throws DocumentException;
 }
\ No newline at end of file
@@ -1,44 +1,102 @@
 package com.example.backend.service;
 
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.AlteracaoStatusEmLoteDTO;
 import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.ClienteExportacaoDTO;
 import com.example.backend.dto.EnderecoDTO;
+import com.example.backend.dto.FiltroClienteDTO;
+import com.example.backend.dto.FormatoExportacao;
+import com.example.backend.dto.FormatoTransmissao;
+import com.example.backend.dto.OrdenacaoCliente;
+import com.example.backend.dto.PaginaDTO;
+import com.example.backend.dto.ResultadoOperacaoEmLoteDTO;
+import com.example.backend.dto.ResumoVersoesDTO;
 import com.example.backend.exception.ClienteException;
 import com.example.backend.mapper.ClienteMapper;
 import com.example.backend.mapper.EnderecoMapper;
 import com.example.backend.model.Cliente;
+import com.example.backend.model.ClienteAlteracao;
 import com.example.backend.model.Endereco;
 import com.example.backend.repository.ClienteRepository;
 import com.example.backend.repository.EnderecoRepository;
 import com.example.backend.util.ExcelExporter;
+import com.example.backend.util.JsonExporter;
+import com.example.backend.util.NormalizacaoCliente;
 import com.example.backend.util.PdfExporter;
 import com.itextpdf.text.DocumentException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ClienteServiceImpl implements ClienteService {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 200;
+    private static final int MAXIMO_IDS_EM_LOTE = 10_000;
+    private static final int TAMANHO_BLOCO_IN = 1_000;
+    // Igual ao default_batch_fetch_size: os endereços de um bloco inteiro vêm em uma só consulta
+    private static final int TAMANHO_BLOCO_TRANSMISSAO = 100;
+
     private final ClienteRepository clienteRepository;
     private final EnderecoRepository enderecoRepository;
     private final ExcelExporter excelExporter;
     private final PdfExporter pdfExporter;
+    private final JsonExporter jsonExporter;
+    private final MetricasExportacao metricasExportacao;
+    private final BuscaClienteService buscaClienteService;
+    private final FiltroDuplicidadeClientes filtroDuplicidade;
+    private final AlteracoesClienteService alteracoes;
     private final ClienteMapper clienteMapper;
     private final EnderecoMapper enderecoMapper;
 
     @Override
-    @Transactional
-    public ClienteDTO criarCliente(ClienteDTO clienteDTO) {
+    @Timed("clientes.servico")
+    @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true)
+    @Transactional(rollbackFor = ClienteException.class)
+    public ClienteDTO criarCliente(ClienteDTO clienteDTO) throws ClienteException {
+        validarCliente(clienteDTO);
+
         // 1. Converte e salva o cliente sem endereços (ainda)
         Cliente cliente = clienteMapper.toEntity(clienteDTO);
         cliente.setEnderecos(null); // para não tentar cascade incorretamente
-        cliente = clienteRepository.saveAndFlush(cliente); // força salvar e obter o ID
+        try {
+            cliente = clienteRepository.saveAndFlush(cliente); // força salvar e obter o ID
+        } catch (DataIntegrityViolationException e) {
+            throw duplicidade(e, "Já existe um cliente cadastrado com este CPF/CNPJ",
+                    "Já existe um cliente cadastrado com este e-mail");
+        }
 
         // 2. Constrói a lista de endereços com o cliente setado
         if (clienteDTO.getEnderecos() != null) {
@@ -55,14 +113,27 @@ public class ClienteServiceImpl implements ClienteService {
             cliente.setEnderecos(enderecos); // agora sim, associa no objeto principal
         }
 
+        filtroDuplicidade.adicionar(cliente.getCpfCnpjNormalizado(), cliente.getEmailNormalizado());
+        alteracoes.registrar(cliente.getId(), null, ClienteAlteracao.Operacao.CRIACAO);
         return clienteMapper.toDto(cliente);
     }
 
     @Override
-    @Transactional
+    @Timed("clientes.servico")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ENDERECOS, allEntries = true)
+    })
+    @Transactional(rollbackFor = ClienteException.class)
     public ClienteDTO atualizarCliente(Long id, ClienteDTO clienteDTO) throws ClienteException {
         Cliente cliente = clienteRepository.findById(id)
                 .orElseThrow(() -> new ClienteException("Cliente não encontrado"));
+        // Versão lida pelo cliente da API diferente da atual: outra requisição alterou o registro antes
+        if (clienteDTO.getVersao() != null && !clienteDTO.getVersao().equals(cliente.getVersao())) {
+            throw new ObjectOptimisticLockingFailureException(Cliente.class, id);
+        }
+        validarClienteParaAtualizacao(clienteDTO, cliente);
 
         // Atualiza dados principais do cliente
         cliente.setCpfCnpj(clienteDTO.getCpfCnpj());
@@ -75,95 +146,385 @@ public class ClienteServiceImpl implements ClienteService {
         cliente.setDataNascimento(clienteDTO.getDataNascimento());
         cliente.setAtivo(clienteDTO.getAtivo());
 
-        // Processa endereços
-        List<Long> idsDTO = clienteDTO.getEnderecos().stream()
-                .map(EnderecoDTO::getId)
-                .filter(Objects::nonNull)
-                .toList();
+        // Limpa os campos inconsistentes conforme o tipo de pessoa
+        limparCamposConformeTipoPessoa(cliente);
 
-        List<Endereco> enderecosExistentes = enderecoRepository.findByClienteId(id);
-        for (Endereco endereco : enderecosExistentes) {
-            if (!idsDTO.contains(endereco.getId())) {
-                enderecoRepository.delete(endereco);
-            }
+        if (clienteDTO.getEnderecos() != null && sincronizarEnderecos(cliente, clienteDTO.getEnderecos())) {
+            // Endereços não são colunas do cliente, mas fazem parte da representação (e do ETag):
+            // marcar o carimbo deixa o cliente sujo, o que também incrementa a versão no flush
+            cliente.setAtualizadoEm(Instant.now());
         }
 
-        Cliente finalCliente = cliente;
-        List<Endereco> novosEnderecos = clienteDTO.getEnderecos().stream()
-                .map(dto -> {
-                    Endereco endereco = enderecoMapper.toEntity(dto);
-                    endereco.setCliente(finalCliente);
-                    return endereco;
-                })
-                .collect(Collectors.toList());
+        filtroDuplicidade.adicionar(NormalizacaoCliente.cpfCnpj(cliente.getCpfCnpj()),
+                NormalizacaoCliente.email(cliente.getEmail()));
+
+        // Descarrega o UPDATE agora para que a versão devolvida já seja a nova
+        try {
+            clienteRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw duplicidade(e, "Já existe outro cliente cadastrado com este CPF/CNPJ",
+                    "Já existe outro cliente cadastrado com este e-mail");
+        }
+        alteracoes.registrar(id, null, ClienteAlteracao.Operacao.ATUALIZACAO);
+        return clienteMapper.toDto(cliente);
+    }
 
-        cliente.setEnderecos(enderecoRepository.saveAll(novosEnderecos));
+    // Aplica somente a diferença entre os endereços recebidos e os persistidos: um DELETE em lote para os
+    // removidos, UPDATE apenas dos que mudaram (dirty checking) e um INSERT JDBC em batch para os novos.
+    // Devolve se algum endereço foi removido, incluído ou alterado
+    private boolean sincronizarEnderecos(Cliente cliente, List<EnderecoDTO> enderecosDTO) throws ClienteException {
+        Map<Long, Endereco> existentes = enderecoRepository.findByClienteId(cliente.getId()).stream()
+                .collect(Collectors.toMap(Endereco::getId, Function.identity()));
+
+        Set<Long> idsRecebidos = new HashSet<>();
+        List<EnderecoDTO> novos = new ArrayList<>();
+        boolean alterado = false;
+        for (EnderecoDTO dto : enderecosDTO) {
+            if (dto.getId() == null) {
+                dto.setClienteId(cliente.getId());
+                novos.add(dto);
+            } else {
+                Endereco endereco = existentes.get(dto.getId());
+                if (endereco == null) {
+                    throw new ClienteException("Endereço " + dto.getId() + " não pertence ao cliente " + cliente.getId());
+                }
+                // Compara pelo próprio mapeamento: só os campos que o mapper copia contam como alteração
+                EnderecoDTO anterior = enderecoMapper.toDto(endereco);
+                enderecoMapper.atualizar(dto, endereco);
+                alterado |= !anterior.equals(enderecoMapper.toDto(endereco));
+                idsRecebidos.add(dto.getId());
+            }
+        }
 
-        // Limpa os campos inconsistentes conforme o tipo de pessoa
-        limparCamposConformeTipoPessoa(cliente);
-        cliente = clienteRepository.save(cliente);
+        List<Long> removidos = existentes.keySet().stream()
+                .filter(idEndereco -> !idsRecebidos.contains(idEndereco))
+                .collect(Collectors.toList());
+        if (!removidos.isEmpty()) {
+            enderecoRepository.deleteByClienteIdAndIdIn(cliente.getId(), removidos);
+        }
+        enderecoRepository.inserirEmLote(novos, TAMANHO_BLOCO_IN);
 
-        return clienteMapper.toDto(cliente);
+        // DELETE em massa e INSERT JDBC não passam pelo Hibernate Search: o cliente é reindexado com os
+        // endereços lidos do banco no commit
+        if (!removidos.isEmpty() || !novos.isEmpty()) {
+            buscaClienteService.reindexar(cliente);
+            alterado = true;
+        }
+        return alterado;
     }
 
     @Override
+    @Timed("clientes.servico")
+    @Cacheable(cacheNames = CacheConfig.CLIENTES, key = "#id")
+    @Transactional(readOnly = true)
     public ClienteDTO buscarClientePorId(Long id) throws ClienteException {
-        Cliente cliente = clienteRepository.findById(id)
+        Cliente cliente = clienteRepository.findComEnderecosById(id)
                 .orElseThrow(() -> new ClienteException("Cliente não encontrado com ID: " + id));
         return clienteMapper.toDto(cliente);
     }
 
     @Override
+    @Timed("clientes.servico")
+    @Transactional(readOnly = true)
+    public Long buscarVersaoCliente(Long id) throws ClienteException {
+        return clienteRepository.findVersaoById(id)
+                .orElseThrow(() -> new ClienteException("Cliente não encontrado com ID: " + id));
+    }
+
+    @Override
+    @Timed("clientes.servico")
+    @Transactional(readOnly = true)
+    public ResumoVersoesDTO resumirVersoes(FiltroClienteDTO filtro) {
+        return clienteRepository.resumirVersoes(filtro);
+    }
+
+    @Override
+    @Timed("clientes.servico")
+    @Cacheable(cacheNames = CacheConfig.CLIENTES_LISTAS, key = "'todos'")
+    @Transactional(readOnly = true)
     public List<ClienteDTO> listarTodosClientes() {
-        return clienteRepository.findAll().stream()
+        return clienteRepository.findAllComEnderecos().stream()
                 .map(clienteMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Timed("clientes.servico")
+    @Cacheable(cacheNames = CacheConfig.CLIENTES_LISTAS, key = "'ativos'")
+    @Transactional(readOnly = true)
     public List<ClienteDTO> listarClientesAtivos() {
-        return clienteRepository.findByAtivoTrue().stream()
+        return clienteRepository.findAtivosComEnderecos().stream()
+                .map(clienteMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Timed("clientes.servico")
+    @Transactional(readOnly = true)
+    public PaginaDTO<ClienteDTO> listarClientesPaginado(FiltroClienteDTO filtro, OrdenacaoCliente ordenarPor,
+                                                        Sort.Direction direcao, int tamanho, int pagina,
+                                                        String cursor, boolean incluirTotal) throws ClienteException {
+        int limite = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA));
+
+        // Com cursor a página começa após o último registro visto; sem ele, usa deslocamento
+        String valorApos = null;
+        Long idApos = null;
+        int offset = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = decodificarCursor(cursor);
+            idApos = Long.valueOf(partes[0]);
+            valorApos = partes[1];
+        } else {
+            offset = (int) Math.min((long) Math.max(pagina, 0) * limite, Integer.MAX_VALUE);
+        }
+
+        // Busca um registro a mais só para saber se existe próxima página
+        List<Cliente> clientes = clienteRepository.buscarPagina(
+                filtro, ordenarPor, direcao, valorApos, idApos, offset, limite + 1);
+        String proximoCursor = null;
+        if (clientes.size() > limite) {
+            clientes = clientes.subList(0, limite);
+            proximoCursor = codificarCursor(ordenarPor, clientes.get(limite - 1));
+        }
+
+        Long total = incluirTotal ? clienteRepository.contar(filtro) : null;
+        List<ClienteDTO> conteudo = clientes.stream()
                 .map(clienteMapper::toDto)
                 .collect(Collectors.toList());
+        return new PaginaDTO<>(conteudo, limite, proximoCursor, total);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional
+    public void preencherColunasDerivadas() {
+        // Registros anteriores à coluna de ordenação ainda não têm o valor preenchido; as chaves
+        // normalizadas são preenchidas por UnicidadeChavesNormalizadas
+        clienteRepository.preencherNomeOuRazaoSocial();
     }
 
     @Override
+    @Timed("clientes.servico")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ENDERECOS, allEntries = true)
+    })
     @Transactional
     public void excluirCliente(Long id) throws ClienteException {
-        Cliente cliente = clienteRepository.findById(id)
-                .orElseThrow(() -> new ClienteException("Cliente não encontrado"));
+        if (!clienteRepository.existsById(id)) {
+            throw new ClienteException("Cliente não encontrado");
+        }
 
-        enderecoRepository.deleteAll(cliente.getEnderecos());
-        clienteRepository.delete(cliente);
+        // Dois DELETEs em lote, sem carregar o cliente nem os endereços
+        enderecoRepository.deleteByClienteId(id);
+        clienteRepository.excluirPorIds(List.of(id));
+        buscaClienteService.remover(List.of(id));
+        alteracoes.registrar(id, null, ClienteAlteracao.Operacao.EXCLUSAO);
     }
 
     @Override
+    @Timed("clientes.servico")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ENDERECOS, allEntries = true)
+    })
+    @Transactional
+    public ResultadoOperacaoEmLoteDTO excluirClientes(List<Long> ids) throws ClienteException {
+        List<Long> distintos = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (distintos.isEmpty()) {
+            throw new ClienteException("Informe ao menos um ID");
+        }
+        if (distintos.size() > MAXIMO_IDS_EM_LOTE) {
+            throw new ClienteException("Máximo de " + MAXIMO_IDS_EM_LOTE + " IDs por requisição");
+        }
+
+        // Blocos limitam o tamanho da cláusula IN
+        long excluidos = 0;
+        for (int inicio = 0; inicio < distintos.size(); inicio += TAMANHO_BLOCO_IN) {
+            List<Long> bloco = distintos.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_IN, distintos.size()));
+            alteracoes.registrar(clienteRepository.findIdsExistentes(bloco), ClienteAlteracao.Operacao.EXCLUSAO);
+            enderecoRepository.deleteByClienteIdIn(bloco);
+            excluidos += clienteRepository.excluirPorIds(bloco);
+            buscaClienteService.remover(bloco);
+        }
+        return new ResultadoOperacaoEmLoteDTO(distintos.size(), excluidos);
+    }
+
+    @Override
+    @Timed("clientes.servico")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true)
+    })
     @Transactional
     public void ativarDesativarCliente(Long id, Boolean ativo) throws ClienteException {
         Cliente cliente = clienteRepository.findById(id)
                 .orElseThrow(() -> new ClienteException("Cliente não encontrado com ID: " + id));
+        boolean alterado = !Objects.equals(cliente.getAtivo(), ativo);
         cliente.setAtivo(ativo);
         clienteRepository.save(cliente);
+        if (alterado) {
+            alteracoes.registrar(id, null, ClienteAlteracao.Operacao.ATUALIZACAO);
+        }
     }
 
     @Override
-    public byte[] exportarClientesParaExcel() throws ClienteException, IOException {
-        List<ClienteDTO> clientes = listarTodosClientes();
-        return excelExporter.exportarClientes(clientes);
+    @Timed("clientes.servico")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true)
+    })
+    @Transactional
+    public ResultadoOperacaoEmLoteDTO ativarDesativarClientes(AlteracaoStatusEmLoteDTO alteracao) throws ClienteException {
+        boolean temIds = alteracao.getIds() != null && !alteracao.getIds().isEmpty();
+        boolean temFiltro = filtroInformado(alteracao.getFiltro());
+        if (temIds == temFiltro) {
+            throw new ClienteException("Informe a lista de IDs ou um filtro com ao menos um critério, não ambos");
+        }
+
+        // Pelo filtro são buscados só os IDs que vão mudar; o UPDATE é feito por blocos de IDs
+        // para que o outbox registre exatamente os clientes alterados
+        List<Long> distintos;
+        if (temFiltro) {
+            // Um registro além do máximo só para detectar que o filtro seleciona clientes demais
+            distintos = clienteRepository.buscarIdsParaAlterarStatus(alteracao.getFiltro(), alteracao.getAtivo(),
+                    MAXIMO_IDS_EM_LOTE + 1);
+            if (distintos.size() > MAXIMO_IDS_EM_LOTE) {
+                throw new ClienteException("O filtro seleciona mais de " + MAXIMO_IDS_EM_LOTE
+                        + " clientes; refine os critérios");
+            }
+        } else {
+            distintos = alteracao.getIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+            if (distintos.size() > MAXIMO_IDS_EM_LOTE) {
+                throw new ClienteException("Máximo de " + MAXIMO_IDS_EM_LOTE + " IDs por requisição");
+            }
+        }
+
+        Instant agora = Instant.now();
+        long afetados = 0;
+        for (int inicio = 0; inicio < distintos.size(); inicio += TAMANHO_BLOCO_IN) {
+            List<Long> bloco = distintos.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_IN, distintos.size()));
+            List<Long> alterados = temFiltro ? bloco
+                    : clienteRepository.findIdsComStatusDiferente(bloco, alteracao.getAtivo());
+            if (!alterados.isEmpty()) {
+                afetados += clienteRepository.atualizarStatusPorIds(alterados, alteracao.getAtivo(), agora);
+                alteracoes.registrar(alterados, ClienteAlteracao.Operacao.ATUALIZACAO);
+            }
+        }
+        return new ResultadoOperacaoEmLoteDTO(distintos.size(), afetados);
     }
 
     @Override
-    public byte[] exportarClientesParaPdf() throws ClienteException, DocumentException {
-        List<ClienteDTO> clientes = listarTodosClientes();
-        return pdfExporter.exportarClientes(clientes);
+    @Timed("clientes.servico")
+    @Transactional(readOnly = true)
+    public void transmitirClientes(FiltroClienteDTO filtro, FormatoTransmissao formato, OutputStream out) throws IOException {
+        // Em memória fica no máximo um bloco: ele é mapeado, escrito e descarregado na resposta,
+        // e as entidades são desanexadas antes de ler o próximo
+        try (Stream<Cliente> clientes = clienteRepository.streamClientes(filtro);
+             JsonExporter.Escritor escritor = jsonExporter.abrir(formato, out)) {
+            Iterator<Cliente> iterador = clientes.iterator();
+            List<Cliente> bloco = new ArrayList<>(TAMANHO_BLOCO_TRANSMISSAO);
+            while (iterador.hasNext()) {
+                bloco.add(iterador.next());
+                if (bloco.size() == TAMANHO_BLOCO_TRANSMISSAO || !iterador.hasNext()) {
+                    for (Cliente cliente : bloco) {
+                        escritor.escrever(clienteMapper.toDto(cliente));
+                    }
+                    escritor.descarregar();
+                    clienteRepository.limparContexto();
+                    bloco.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarClientesParaExcel(FiltroClienteDTO filtro, OutputStream out) throws IOException {
+        Timer.Sample amostra = metricasExportacao.iniciar();
+        LongAdder linhas = new LongAdder();
+        boolean sucesso = false;
+        try (Stream<ClienteExportacaoDTO> clientes = clienteRepository.streamParaExportacao(filtro)
+                .peek(cliente -> linhas.increment())) {
+            excelExporter.exportarClientes(clientes, out);
+            sucesso = true;
+        } finally {
+            metricasExportacao.registrar(amostra, FormatoExportacao.EXCEL, "direta", linhas.sum(), sucesso);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarClientesParaPdf(FiltroClienteDTO filtro, OutputStream out) throws DocumentException {
+        Timer.Sample amostra = metricasExportacao.iniciar();
+        LongAdder linhas = new LongAdder();
+        boolean sucesso = false;
+        try (Stream<ClienteExportacaoDTO> clientes = clienteRepository.streamParaExportacao(filtro)
+                .peek(cliente -> linhas.increment())) {
+            pdfExporter.exportarClientes(clientes, out);
+            sucesso = true;
+        } finally {
+            metricasExportacao.registrar(amostra, FormatoExportacao.PDF, "direta", linhas.sum(), sucesso);
+        }
+    }
+
+    private String codificarCursor(OrdenacaoCliente ordenacao, Cliente ultimo) {
+        String valor = ordenacao.valorDe(ultimo);
+        String cursor = ultimo.getId() + ":" + (valor != null ? valor : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodificarCursor(String cursor) throws ClienteException {
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            Long.parseLong(partes[0]);
+            return new String[]{partes[0], partes.length > 1 ? partes[1] : ""};
+        } catch (IllegalArgumentException e) {
+            throw new ClienteException("Cursor de paginação inválido", e);
+        }
+    }
+
+    private boolean filtroInformado(FiltroClienteDTO filtro) {
+        String prefixoCpfCnpj = filtro != null ? NormalizacaoCliente.cpfCnpj(filtro.getCpfCnpj()) : null;
+        return filtro != null && (filtro.getTipoPessoa() != null || filtro.getAtivo() != null
+                || (prefixoCpfCnpj != null && !prefixoCpfCnpj.isEmpty())
+                || filtro.getCidade() != null || filtro.getEstado() != null);
+    }
+
+    // A restrição única do banco é a garantia final: cobre gravações concorrentes e de outras instâncias,
+    // que passam pela verificação prévia sem serem vistas
+    private ClienteException duplicidade(DataIntegrityViolationException e, String mensagemCpfCnpj,
+                                         String mensagemEmail) {
+        String restricao = e.getCause() instanceof ConstraintViolationException violacao
+                ? violacao.getConstraintName() : null;
+        if (restricao == null) {
+            throw e;
+        }
+        String nome = restricao.toLowerCase(Locale.ROOT);
+        if (nome.contains(Cliente.UK_CPF_CNPJ_NORMALIZADO)) {
+            return new ClienteException(mensagemCpfCnpj, e);
+        }
+        if (nome.contains(Cliente.UK_EMAIL_NORMALIZADO)) {
+            return new ClienteException(mensagemEmail, e);
+        }
+        // Restrições únicas das colunas originais, com nome gerado pelo Hibernate
+        return new ClienteException("Já existe um cliente cadastrado com este CPF/CNPJ ou e-mail", e);
     }
 
+    // O filtro de duplicidade evita a consulta ao banco quando a chave certamente é nova; a restrição
+    // única ainda decide no INSERT/UPDATE
     private void validarCliente(ClienteDTO clienteDTO) throws ClienteException {
-        if (clienteRepository.existsByCpfCnpj(clienteDTO.getCpfCnpj())) {
+        String cpfCnpj = NormalizacaoCliente.cpfCnpj(clienteDTO.getCpfCnpj());
+        if (cpfCnpj != null && filtroDuplicidade.podeConterCpfCnpj(cpfCnpj)
+                && clienteRepository.existsByCpfCnpjNormalizado(cpfCnpj)) {
             throw new ClienteException("Já existe um cliente cadastrado com este CPF/CNPJ");
         }
 
-        if (clienteRepository.existsByEmail(clienteDTO.getEmail())) {
+        String email = NormalizacaoCliente.email(clienteDTO.getEmail());
+        if (email != null && filtroDuplicidade.podeConterEmail(email)
+                && clienteRepository.existsByEmailNormalizado(email)) {
             throw new ClienteException("Já existe um cliente cadastrado com este e-mail");
         }
 
@@ -171,13 +532,17 @@ public class ClienteServiceImpl implements ClienteService {
     }
 
     private void validarClienteParaAtualizacao(ClienteDTO clienteDTO, Cliente clienteExistente) throws ClienteException {
-        if (!clienteExistente.getCpfCnpj().equals(clienteDTO.getCpfCnpj()) &&
-                clienteRepository.existsByCpfCnpj(clienteDTO.getCpfCnpj())) {
+        String cpfCnpj = NormalizacaoCliente.cpfCnpj(clienteDTO.getCpfCnpj());
+        if (cpfCnpj != null && !cpfCnpj.equals(clienteExistente.getCpfCnpjNormalizado())
+                && filtroDuplicidade.podeConterCpfCnpj(cpfCnpj)
+                && clienteRepository.existsByCpfCnpjNormalizadoAndIdNot(cpfCnpj, clienteExistente.getId())) {
             throw new ClienteException("Já existe outro cliente cadastrado com este CPF/CNPJ");
         }
 
-        if (!clienteExistente.getEmail().equals(clienteDTO.getEmail()) &&
-                clienteRepository.existsByEmail(clienteDTO.getEmail())) {
+        String email = NormalizacaoCliente.email(clienteDTO.getEmail());
+        if (email != null && !email.equals(clienteExistente.getEmailNormalizado())
+                && filtroDuplicidade.podeConterEmail(email)
+                && clienteRepository.existsByEmailNormalizadoAndIdNot(email, clienteExistente.getId())) {
             throw new ClienteException("Já existe outro cliente cadastrado com este e-mail");
         }
 
@@ -1,26 +1,63 @@
 package com.example.backend.service;
 
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.EnderecoDTO;
+import com.example.backend.mapper.EnderecoMapper;
+import com.example.backend.model.ClienteAlteracao;
 import com.example.backend.model.Endereco;
+import com.example.backend.repository.ClienteRepository;
 import com.example.backend.repository.EnderecoRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 @Service
 public class EnderecoService {
 
     private final EnderecoRepository enderecoRepository;
+    private final ClienteRepository clienteRepository;
+    private final AlteracoesClienteService alteracoes;
+    private final EnderecoMapper enderecoMapper;
+    private final Cache clientesEmCache;
 
-    public EnderecoService(EnderecoRepository enderecoRepository) {
+    public EnderecoService(EnderecoRepository enderecoRepository, ClienteRepository clienteRepository,
+                           AlteracoesClienteService alteracoes, EnderecoMapper enderecoMapper,
+                           CacheManager cacheManager) {
         this.enderecoRepository = enderecoRepository;
+        this.clienteRepository = clienteRepository;
+        this.alteracoes = alteracoes;
+        this.enderecoMapper = enderecoMapper;
+        this.clientesEmCache = cacheManager.getCache(CacheConfig.CLIENTES);
     }
 
+    // O cliente dono sai do cache em registrarAlteracaoCliente, pela chave
+    @Timed("enderecos.servico")
+    @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true)
+    @Transactional
     public Endereco salvar(Endereco endereco) {
-        return enderecoRepository.save(endereco);
+        Endereco salvo = enderecoRepository.save(endereco);
+        registrarAlteracaoCliente(salvo.getCliente() != null ? salvo.getCliente().getId() : null,
+                salvo.getId(), ClienteAlteracao.Operacao.CRIACAO);
+        return salvo;
     }
 
+    @Timed("enderecos.servico")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ENDERECOS, key = "#enderecoAtualizado.id"),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true)
+    })
+    @Transactional
     public Endereco atualizar(Endereco enderecoAtualizado) {
-        Endereco enderecoExistente = buscarPorId(enderecoAtualizado.getId());
+        Endereco enderecoExistente = buscarEntidade(enderecoAtualizado.getId());
+        Long clienteAnterior = enderecoExistente.getCliente() != null ? enderecoExistente.getCliente().getId() : null;
 
         enderecoExistente.setLogradouro(enderecoAtualizado.getLogradouro());
         enderecoExistente.setNumero(enderecoAtualizado.getNumero());
@@ -33,19 +70,54 @@ public class EnderecoService {
         enderecoExistente.setComplemento(enderecoAtualizado.getComplemento());
         enderecoExistente.setCliente(enderecoAtualizado.getCliente());
 
-        return enderecoRepository.save(enderecoExistente);
+        Endereco salvo = enderecoRepository.save(enderecoExistente);
+        registrarAlteracaoCliente(clienteAnterior, salvo.getId(), ClienteAlteracao.Operacao.ATUALIZACAO);
+        if (salvo.getCliente() != null && !salvo.getCliente().getId().equals(clienteAnterior)) {
+            registrarAlteracaoCliente(salvo.getCliente().getId(), salvo.getId(), ClienteAlteracao.Operacao.ATUALIZACAO);
+        }
+        return salvo;
     }
 
-    public Endereco buscarPorId(Long id) {
-        return enderecoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Endereço não encontrado com ID: " + id));
+    // O cache guarda o DTO: a entidade tem o cliente LAZY, que não pode ser carregado fora da sessão,
+    // e seria a mesma instância gerenciada para todos os chamadores
+    @Timed("enderecos.servico")
+    @Cacheable(cacheNames = CacheConfig.ENDERECOS, key = "#id")
+    @Transactional(readOnly = true)
+    public EnderecoDTO buscarPorId(Long id) {
+        return enderecoMapper.toDto(buscarEntidade(id));
     }
 
+    @Timed("enderecos.servico")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ENDERECOS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true)
+    })
+    @Transactional
     public void deletar(Long id) {
+        Long clienteId = enderecoRepository.findClienteIdById(id);
         enderecoRepository.deleteById(id);
+        registrarAlteracaoCliente(clienteId, id, ClienteAlteracao.Operacao.EXCLUSAO);
     }
 
+    @Timed("enderecos.servico")
+    @Transactional(readOnly = true)
     public List<Endereco> listarTodos() {
         return enderecoRepository.findAll();
     }
+
+    private Endereco buscarEntidade(Long id) {
+        return enderecoRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Endereço não encontrado com ID: " + id));
+    }
+
+    // O endereço faz parte da representação do cliente: a versão (e o ETag) do cliente precisa mudar junto,
+    // a alteração entra no feed como alteração do cliente e só esse cliente sai do cache (após o commit).
+    // Na troca de cliente é chamado para o anterior e para o novo, por isso a evicção não fica na anotação
+    private void registrarAlteracaoCliente(Long clienteId, Long enderecoId, ClienteAlteracao.Operacao operacao) {
+        if (clienteId != null) {
+            clienteRepository.incrementarVersao(clienteId, Instant.now());
+            alteracoes.registrar(clienteId, enderecoId, operacao);
+            clientesEmCache.evict(clienteId);
+        }
+    }
 }
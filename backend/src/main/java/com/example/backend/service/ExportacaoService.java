@@ -0,0 +1,301 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ClienteExportacaoDTO;
+import com.example.backend.dto.ExportacaoDTO;
+import com.example.backend.dto.FiltroClienteDTO;
+import com.example.backend.dto.FormatoExportacao;
+import com.example.backend.dto.SolicitacaoExportacaoDTO;
+import com.example.backend.dto.StatusExportacao;
+import com.example.backend.exception.ClienteException;
+import com.example.backend.repository.ClienteRepository;
+import com.example.backend.util.ExcelExporter;
+import com.example.backend.util.PdfExporter;
+import com.itextpdf.text.DocumentException;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Exportações assíncronas: cada solicitação vira um job executado em um pool limitado,
+ * para que exportações pesadas não disputem as threads do Tomcat com o CRUD.
+ * O arquivo gerado fica em um diretório local até expirar; downloads em andamento adiam a remoção.
+ */
+@Slf4j
+@Service
+public class ExportacaoService {
+
+    private final ClienteRepository clienteRepository;
+    private final ExcelExporter excelExporter;
+    private final PdfExporter pdfExporter;
+    private final MetricasExportacao metricasExportacao;
+    private final TransactionTemplate transacaoLeitura;
+    private final ThreadPoolTaskExecutor executor;
+    private final Path diretorio;
+    private final Duration validade;
+    private final Map<String, Exportacao> exportacoes = new ConcurrentHashMap<>();
+
+    public ExportacaoService(ClienteRepository clienteRepository, ExcelExporter excelExporter, PdfExporter pdfExporter,
+                             MetricasExportacao metricasExportacao, PlatformTransactionManager transactionManager,
+                             @Value("${app.exportacao.diretorio}") String diretorio,
+                             @Value("${app.exportacao.validade:1h}") Duration validade,
+                             @Value("${app.exportacao.max-simultaneas:2}") int maxSimultaneas,
+                             @Value("${app.exportacao.capacidade-fila:20}") int capacidadeFila) throws IOException {
+        this.clienteRepository = clienteRepository;
+        this.excelExporter = excelExporter;
+        this.pdfExporter = pdfExporter;
+        this.metricasExportacao = metricasExportacao;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+        this.diretorio = Files.createDirectories(Paths.get(diretorio));
+        this.validade = validade;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(maxSimultaneas);
+        this.executor.setMaxPoolSize(maxSimultaneas);
+        this.executor.setQueueCapacity(capacidadeFila);
+        this.executor.setThreadNamePrefix("exportacao-");
+        this.executor.initialize();
+
+        // Arquivos de execuções anteriores não estão no mapa de jobs e nunca expirariam
+        removerOrfaos();
+    }
+
+    public ExportacaoDTO solicitar(SolicitacaoExportacaoDTO solicitacao) {
+        FiltroClienteDTO filtro = solicitacao.getFiltro() != null ? solicitacao.getFiltro() : new FiltroClienteDTO();
+        Exportacao exportacao = new Exportacao(UUID.randomUUID().toString(), solicitacao.getFormato(), filtro);
+        exportacoes.put(exportacao.id, exportacao);
+
+        try {
+            executor.execute(() -> executar(exportacao));
+        } catch (RuntimeException e) {
+            // Fila cheia: a solicitação é descartada e o erro chega ao cliente
+            exportacoes.remove(exportacao.id);
+            throw e;
+        }
+        return exportacao.toDto();
+    }
+
+    public ExportacaoDTO buscar(String id) throws ClienteException {
+        return buscarExportacao(id).toDto();
+    }
+
+    /**
+     * Abre o arquivo gerado para download. Enquanto o stream estiver aberto, a expiração não remove o arquivo;
+     * ele é apagado na primeira limpeza após o fechamento.
+     */
+    public ArquivoExportacao abrirArquivo(String id) throws ClienteException, IOException {
+        Exportacao exportacao = buscarExportacao(id);
+        synchronized (exportacao) {
+            if (exportacao.removida) {
+                throw new ClienteException("Exportação não encontrada: " + id);
+            }
+            if (exportacao.status != StatusExportacao.CONCLUIDA) {
+                throw new ClienteException("Exportação ainda não concluída: " + exportacao.status);
+            }
+            exportacao.downloads++;
+        }
+
+        long tamanho;
+        InputStream in;
+        try {
+            tamanho = Files.size(exportacao.arquivo);
+            in = Files.newInputStream(exportacao.arquivo);
+        } catch (IOException e) {
+            liberar(exportacao);
+            throw e;
+        }
+        return new ArquivoExportacao(tamanho, new FilterInputStream(in) {
+            private boolean fechado;
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (!fechado) {
+                        fechado = true;
+                        liberar(exportacao);
+                    }
+                }
+            }
+        });
+    }
+
+    public FormatoExportacao formato(String id) throws ClienteException {
+        return buscarExportacao(id).formato;
+    }
+
+    @Scheduled(fixedDelayString = "${app.exportacao.intervalo-limpeza:60000}")
+    public void removerExpiradas() {
+        Instant agora = Instant.now();
+        exportacoes.values().removeIf(exportacao -> {
+            if (exportacao.expiraEm == null || exportacao.expiraEm.isAfter(agora)) {
+                return false;
+            }
+            synchronized (exportacao) {
+                // Download em andamento: tenta de novo na próxima limpeza
+                if (exportacao.downloads > 0) {
+                    return false;
+                }
+                exportacao.removida = true;
+            }
+            apagarArquivo(exportacao);
+            return true;
+        });
+        removerOrfaos();
+    }
+
+    // Arquivos sem job correspondente (ex.: gerados antes de um restart) e mais antigos que a validade
+    private void removerOrfaos() {
+        FileTime limite = FileTime.from(Instant.now().minus(validade));
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            arquivos.filter(arquivo -> !exportacoes.containsKey(idDoArquivo(arquivo)))
+                    .filter(arquivo -> {
+                        try {
+                            return Files.getLastModifiedTime(arquivo).compareTo(limite) < 0;
+                        } catch (IOException e) {
+                            return false;
+                        }
+                    })
+                    .forEach(arquivo -> {
+                        try {
+                            Files.deleteIfExists(arquivo);
+                        } catch (IOException e) {
+                            log.warn("Não foi possível remover {}", arquivo, e);
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("Não foi possível listar {}", diretorio, e);
+        }
+    }
+
+    private static String idDoArquivo(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        int ponto = nome.lastIndexOf('.');
+        return ponto > 0 ? nome.substring(0, ponto) : nome;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdown();
+    }
+
+    private void executar(Exportacao exportacao) {
+        exportacao.status = StatusExportacao.EXECUTANDO;
+        Timer.Sample amostra = metricasExportacao.iniciar();
+        try {
+            transacaoLeitura.executeWithoutResult(status -> {
+                exportacao.total = clienteRepository.contar(exportacao.filtro);
+                try (Stream<ClienteExportacaoDTO> clientes = clienteRepository.streamParaExportacao(exportacao.filtro)
+                        .peek(cliente -> exportacao.linhas.incrementAndGet());
+                     OutputStream out = new BufferedOutputStream(Files.newOutputStream(exportacao.arquivo))) {
+                    if (exportacao.formato == FormatoExportacao.EXCEL) {
+                        excelExporter.exportarClientes(clientes, out);
+                    } else {
+                        pdfExporter.exportarClientes(clientes, out);
+                    }
+                } catch (IOException | DocumentException e) {
+                    throw new IllegalStateException("Falha ao gerar o arquivo: " + e.getMessage(), e);
+                }
+            });
+            exportacao.status = StatusExportacao.CONCLUIDA;
+        } catch (RuntimeException e) {
+            log.error("Falha na exportação {}", exportacao.id, e);
+            exportacao.erro = e.getMessage();
+            exportacao.status = StatusExportacao.FALHOU;
+            apagarArquivo(exportacao);
+        } finally {
+            metricasExportacao.registrar(amostra, exportacao.formato, "assincrona", exportacao.linhas.get(),
+                    exportacao.status == StatusExportacao.CONCLUIDA);
+            exportacao.concluidaEm = Instant.now();
+            exportacao.expiraEm = exportacao.concluidaEm.plus(validade);
+        }
+    }
+
+    private Exportacao buscarExportacao(String id) throws ClienteException {
+        Exportacao exportacao = exportacoes.get(id);
+        if (exportacao == null) {
+            throw new ClienteException("Exportação não encontrada: " + id);
+        }
+        return exportacao;
+    }
+
+    private void liberar(Exportacao exportacao) {
+        synchronized (exportacao) {
+            exportacao.downloads--;
+        }
+    }
+
+    private void apagarArquivo(Exportacao exportacao) {
+        try {
+            Files.deleteIfExists(exportacao.arquivo);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover {}", exportacao.arquivo, e);
+        }
+    }
+
+    public record ArquivoExportacao(long tamanho, InputStream conteudo) {
+    }
+
+    private class Exportacao {
+
+        private final String id;
+        private final FormatoExportacao formato;
+        private final FiltroClienteDTO filtro;
+        private final Path arquivo;
+        private final Instant criadaEm = Instant.now();
+        private final AtomicLong linhas = new AtomicLong();
+        private volatile StatusExportacao status = StatusExportacao.PENDENTE;
+        private volatile Long total;
+        private volatile String erro;
+        private volatile Instant concluidaEm;
+        private volatile Instant expiraEm;
+        // Protegidos pelo monitor da própria exportação
+        private int downloads;
+        private boolean removida;
+
+        Exportacao(String id, FormatoExportacao formato, FiltroClienteDTO filtro) {
+            this.id = id;
+            this.formato = formato;
+            this.filtro = filtro;
+            this.arquivo = diretorio.resolve(id + "." + formato.getExtensao());
+        }
+
+        ExportacaoDTO toDto() {
+            long processadas = linhas.get();
+            int percentual;
+            if (status == StatusExportacao.CONCLUIDA) {
+                percentual = 100;
+            } else if (total == null || total == 0) {
+                percentual = 0;
+            } else {
+                percentual = (int) Math.min(99, processadas * 100 / total);
+            }
+            return new ExportacaoDTO(id, formato, status, percentual, processadas, total, erro,
+                    criadaEm, concluidaEm, expiraEm);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.backend.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+
+/**
+ * Pré-filtro probabilístico (Bloom) das chaves normalizadas de CPF/CNPJ e e-mail já cadastradas.
+ * "Não contém" é definitivo e dispensa a consulta ao banco; "pode conter" ainda precisa ser
+ * confirmado no banco. Exclusões não são removidas do filtro, apenas viram falsos positivos.
+ *
+ * <p>O filtro só conhece as gravações desta instância, então é apenas um atalho: quem garante a unicidade
+ * são as restrições únicas das colunas normalizadas.
+ */
+@Slf4j
+@Component
+public class FiltroDuplicidadeClientes {
+
+    private static final int TAMANHO_FETCH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BloomFilter<CharSequence> cpfCnpjs;
+    private final BloomFilter<CharSequence> emails;
+
+    // Até o carregamento terminar, toda chave é tratada como possivelmente existente
+    private volatile boolean carregado;
+
+    public FiltroDuplicidadeClientes(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.duplicidade.capacidade:5000000}") long capacidade,
+                                     @Value("${app.duplicidade.falsos-positivos:0.01}") double falsosPositivos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cpfCnpjs = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacidade, falsosPositivos);
+        this.emails = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacidade, falsosPositivos);
+    }
+
+    // Executa depois do preenchimento das colunas normalizadas (UnicidadeChavesNormalizadas, @Order(1))
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long inicio = System.currentTimeMillis();
+        // Leitura em cursor: a tabela inteira não é carregada de uma vez na memória
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement ps = conexao.prepareStatement("SELECT cpf_cnpj_normalizado, email_normalizado FROM cliente");
+            ps.setFetchSize(TAMANHO_FETCH);
+            return ps;
+        }, rs -> {
+            adicionar(rs.getString(1), rs.getString(2));
+        });
+        carregado = true;
+        log.info("Filtro de duplicidade carregado em {} ms (~{} CPFs/CNPJs)",
+                System.currentTimeMillis() - inicio, cpfCnpjs.approximateElementCount());
+    }
+
+    public boolean podeConterCpfCnpj(String cpfCnpjNormalizado) {
+        return !carregado || cpfCnpjs.mightContain(cpfCnpjNormalizado);
+    }
+
+    public boolean podeConterEmail(String emailNormalizado) {
+        return !carregado || emails.mightContain(emailNormalizado);
+    }
+
+    public void adicionar(String cpfCnpjNormalizado, String emailNormalizado) {
+        if (cpfCnpjNormalizado != null) {
+            cpfCnpjs.put(cpfCnpjNormalizado);
+        }
+        if (emailNormalizado != null) {
+            emails.put(emailNormalizado);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.backend.service;
+
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.EnderecoDTO;
+import com.example.backend.dto.FormatoImportacao;
+import com.example.backend.dto.ResultadoImportacaoDTO;
+import com.example.backend.model.Cliente;
+import com.example.backend.model.ClienteAlteracao;
+import com.example.backend.repository.ClienteRepository;
+import com.example.backend.repository.EnderecoRepository;
+import com.example.backend.util.CsvImporter;
+import com.example.backend.util.ExcelImporter;
+import com.example.backend.util.LinhaImportacao;
+import com.example.backend.util.NdjsonImporter;
+import com.example.backend.util.NormalizacaoCliente;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa de clientes. As linhas são lidas de forma incremental, validadas e
+ * gravadas em lotes com inserts JDBC em batch (um commit por lote).
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportacaoClienteService {
+
+    private static final String INSERT_CLIENTE = "INSERT INTO cliente (tipo_pessoa, cpf_cnpj, nome, rg, " +
+            "data_nascimento, razao_social, inscricao_estadual, data_criacao, email, ativo, nome_ou_razao_social, " +
+            "cpf_cnpj_normalizado, email_normalizado, criado_em, atualizado_em, versao) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final CsvImporter csvImporter;
+    private final ExcelImporter excelImporter;
+    private final NdjsonImporter ndjsonImporter;
+    private final ClienteRepository clienteRepository;
+    private final EnderecoRepository enderecoRepository;
+    private final BuscaClienteService buscaClienteService;
+    private final FiltroDuplicidadeClientes filtroDuplicidade;
+    private final AlteracoesClienteService alteracoes;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @Value("${app.importacao.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    @CacheEvict(cacheNames = CacheConfig.CLIENTES_LISTAS, allEntries = true)
+    public ResultadoImportacaoDTO importar(InputStream in, FormatoImportacao formato) throws IOException {
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+        List<LinhaImportacao> lote = new ArrayList<>(tamanhoLote);
+        Set<String> cpfCnpjsDoArquivo = new HashSet<>();
+        Set<String> emailsDoArquivo = new HashSet<>();
+
+        Consumer<LinhaImportacao> consumidor = linha -> {
+            resultado.setTotalLinhas(resultado.getTotalLinhas() + 1);
+            List<String> erros = validar(linha, cpfCnpjsDoArquivo, emailsDoArquivo);
+            if (!erros.isEmpty()) {
+                resultado.rejeitar(linha.getNumero(), erros);
+                return;
+            }
+
+            lote.add(linha);
+            if (lote.size() >= tamanhoLote) {
+                gravarLote(lote, resultado);
+                lote.clear();
+            }
+        };
+
+        switch (formato) {
+            case CSV -> csvImporter.ler(in, consumidor);
+            case XLSX -> excelImporter.ler(in, consumidor);
+            case NDJSON -> ndjsonImporter.ler(in, consumidor);
+        }
+        if (!lote.isEmpty()) {
+            gravarLote(lote, resultado);
+        }
+
+        return resultado;
+    }
+
+    private List<String> validar(LinhaImportacao linha, Set<String> cpfCnpjsDoArquivo, Set<String> emailsDoArquivo) {
+        if (linha.getErro() != null) {
+            return List.of(linha.getErro());
+        }
+
+        ClienteDTO cliente = linha.getCliente();
+        List<String> erros = validator.validate(cliente).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        if (cliente.getTipoPessoa() == Cliente.TipoPessoa.FISICA) {
+            if (cliente.getNome() == null || cliente.getNome().isBlank()) {
+                erros.add("Nome é obrigatório para pessoa física");
+            }
+        } else if (cliente.getRazaoSocial() == null || cliente.getRazaoSocial().isBlank()) {
+            erros.add("Razão social é obrigatória para pessoa jurídica");
+        }
+
+        if (erros.isEmpty()) {
+            if (!cpfCnpjsDoArquivo.add(NormalizacaoCliente.cpfCnpj(cliente.getCpfCnpj()))) {
+                erros.add("CPF/CNPJ repetido no arquivo");
+            }
+            if (!emailsDoArquivo.add(NormalizacaoCliente.email(cliente.getEmail()))) {
+                erros.add("E-mail repetido no arquivo");
+            }
+        }
+        return erros;
+    }
+
+    private void gravarLote(List<LinhaImportacao> lote, ResultadoImportacaoDTO resultado) {
+        // Só as chaves que o filtro de duplicidade aponta como possivelmente existentes vão ao banco,
+        // em uma consulta por lote
+        List<String> cpfCnpjsSuspeitos = lote.stream()
+                .map(linha -> NormalizacaoCliente.cpfCnpj(linha.getCliente().getCpfCnpj()))
+                .filter(filtroDuplicidade::podeConterCpfCnpj)
+                .collect(Collectors.toList());
+        List<String> emailsSuspeitos = lote.stream()
+                .map(linha -> NormalizacaoCliente.email(linha.getCliente().getEmail()))
+                .filter(filtroDuplicidade::podeConterEmail)
+                .collect(Collectors.toList());
+        Set<String> cpfCnpjsExistentes = cpfCnpjsSuspeitos.isEmpty()
+                ? Set.of() : new HashSet<>(clienteRepository.findCpfCnpjExistentes(cpfCnpjsSuspeitos));
+        Set<String> emailsExistentes = emailsSuspeitos.isEmpty()
+                ? Set.of() : new HashSet<>(clienteRepository.findEmailsExistentes(emailsSuspeitos));
+
+        List<LinhaImportacao> novas = new ArrayList<>(lote.size());
+        for (LinhaImportacao linha : lote) {
+            List<String> erros = new ArrayList<>();
+            if (cpfCnpjsExistentes.contains(NormalizacaoCliente.cpfCnpj(linha.getCliente().getCpfCnpj()))) {
+                erros.add("Já existe um cliente cadastrado com este CPF/CNPJ");
+            }
+            if (emailsExistentes.contains(NormalizacaoCliente.email(linha.getCliente().getEmail()))) {
+                erros.add("Já existe um cliente cadastrado com este e-mail");
+            }
+            if (erros.isEmpty()) {
+                novas.add(linha);
+            } else {
+                resultado.rejeitar(linha.getNumero(), erros);
+            }
+        }
+        if (novas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> inserir(novas));
+            resultado.setImportados(resultado.getImportados() + novas.size());
+        } catch (DataAccessException e) {
+            String mensagem = "Falha ao gravar o lote: " + e.getMostSpecificCause().getMessage();
+            novas.forEach(linha -> resultado.rejeitar(linha.getNumero(), List.of(mensagem)));
+        }
+    }
+
+    private void inserir(List<LinhaImportacao> linhas) {
+        Timestamp agora = Timestamp.from(Instant.now());
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) conexao -> {
+            try (PreparedStatement ps = conexao.prepareStatement(INSERT_CLIENTE, Statement.RETURN_GENERATED_KEYS)) {
+                for (LinhaImportacao linha : linhas) {
+                    ClienteDTO cliente = linha.getCliente();
+                    String nomeOuRazaoSocial = cliente.getTipoPessoa() == Cliente.TipoPessoa.FISICA
+                            ? cliente.getNome() : cliente.getRazaoSocial();
+                    ps.setString(1, cliente.getTipoPessoa().name());
+                    ps.setString(2, cliente.getCpfCnpj());
+                    ps.setString(3, cliente.getNome());
+                    ps.setString(4, cliente.getRg());
+                    ps.setObject(5, cliente.getDataNascimento(), Types.DATE);
+                    ps.setString(6, cliente.getRazaoSocial());
+                    ps.setString(7, cliente.getInscricaoEstadual());
+                    ps.setObject(8, cliente.getDataCriacao(), Types.DATE);
+                    ps.setString(9, cliente.getEmail());
+                    ps.setBoolean(10, cliente.getAtivo());
+                    ps.setString(11, nomeOuRazaoSocial != null ? nomeOuRazaoSocial : "");
+                    ps.setString(12, NormalizacaoCliente.cpfCnpj(cliente.getCpfCnpj()));
+                    ps.setString(13, NormalizacaoCliente.email(cliente.getEmail()));
+                    ps.setTimestamp(14, agora);
+                    ps.setTimestamp(15, agora);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // Com IDENTITY as chaves geradas voltam na mesma ordem das linhas do batch
+                List<Long> chaves = new ArrayList<>(linhas.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        chaves.add(rs.getLong(1));
+                    }
+                }
+                return chaves;
+            }
+        });
+
+        List<EnderecoDTO> enderecos = new ArrayList<>();
+        for (int i = 0; i < linhas.size(); i++) {
+            List<EnderecoDTO> enderecosDoCliente = linhas.get(i).getCliente().getEnderecos();
+            if (enderecosDoCliente != null) {
+                for (EnderecoDTO endereco : enderecosDoCliente) {
+                    endereco.setClienteId(ids.get(i));
+                    enderecos.add(endereco);
+                }
+            }
+        }
+        enderecoRepository.inserirEmLote(enderecos, tamanhoLote);
+
+        // Inserts JDBC não passam pelo Hibernate Search; o índice é atualizado no commit do lote
+        buscaClienteService.reindexar(ids);
+        alteracoes.registrar(ids, ClienteAlteracao.Operacao.CRIACAO);
+
+        linhas.forEach(linha -> filtroDuplicidade.adicionar(
+                NormalizacaoCliente.cpfCnpj(linha.getCliente().getCpfCnpj()),
+                NormalizacaoCliente.email(linha.getCliente().getEmail())));
+    }
+}
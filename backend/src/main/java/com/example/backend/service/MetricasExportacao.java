@@ -0,0 +1,43 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.FormatoExportacao;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra duração e quantidade de linhas de cada exportação de clientes.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricasExportacao {
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample iniciar() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void registrar(Timer.Sample amostra, FormatoExportacao formato, String modo, long linhas, boolean sucesso) {
+        String resultado = sucesso ? "sucesso" : "falha";
+        amostra.stop(Timer.builder("clientes.exportacao.duracao")
+                .description("Tempo de geração das exportações de clientes")
+                .tag("formato", formato.name())
+                .tag("modo", modo)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+
+        DistributionSummary.builder("clientes.exportacao.linhas")
+                .description("Linhas escritas por exportação de clientes")
+                .baseUnit("linhas")
+                .tag("formato", formato.name())
+                .tag("modo", modo)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(linhas);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Cliente;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Preenche as chaves normalizadas de CPF/CNPJ e e-mail dos registros antigos e garante as restrições únicas
+ * delas no banco. Registros que normalizam para a mesma chave (ex.: "123.456.789-09" e "12345678909") não
+ * podem coexistir com a restrição: em cada grupo só o de menor ID recebe a chave, e os demais ficam sem ela
+ * e são listados no log para serem mesclados. Enquanto não forem mesclados, qualquer alteração neles é
+ * recusada como duplicidade.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnicidadeChavesNormalizadas {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Depois do preenchimento da coluna de ordenação (@Order(0)) e antes da carga do filtro de duplicidade
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void aplicar() {
+        aplicar("cpf_cnpj", "REGEXP_REPLACE(c.cpf_cnpj, '[^0-9]', '')", "cpf_cnpj_normalizado",
+                Cliente.UK_CPF_CNPJ_NORMALIZADO, "idx_cliente_cpf_cnpj_normalizado");
+        aplicar("email", "LOWER(TRIM(c.email))", "email_normalizado",
+                Cliente.UK_EMAIL_NORMALIZADO, "idx_cliente_email_normalizado");
+    }
+
+    private void aplicar(String origem, String chave, String coluna, String restricao, String indiceAntigo) {
+        boolean pendentes = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM cliente WHERE " + coluna + " IS NULL AND " + origem + " IS NOT NULL)",
+                Boolean.class));
+        boolean restrita = indiceExiste(restricao);
+        if (!pendentes && restrita) {
+            return;
+        }
+
+        jdbcTemplate.query("SELECT " + chave + " AS chave, GROUP_CONCAT(c.id ORDER BY c.id) AS ids FROM cliente c " +
+                "WHERE c." + origem + " IS NOT NULL GROUP BY chave HAVING COUNT(*) > 1", rs -> {
+            log.warn("Clientes {} têm a mesma chave {} '{}'; só o primeiro a recebe, mescle os demais",
+                    rs.getString("ids"), coluna, rs.getString("chave"));
+        });
+
+        // Primeiro tira a chave dos repetidos, depois preenche o primeiro de cada grupo: nenhum passo
+        // deixa duas linhas com a mesma chave, mesmo com a restrição já criada
+        String grupos = "(SELECT " + chave + " AS chave, MIN(c.id) AS primeiro FROM cliente c " +
+                "WHERE c." + origem + " IS NOT NULL GROUP BY chave) g ON g.chave = " + chave;
+        int removidas = jdbcTemplate.update("UPDATE cliente c JOIN " + grupos +
+                " SET c." + coluna + " = NULL WHERE c.id <> g.primeiro AND c." + coluna + " IS NOT NULL");
+        int preenchidas = jdbcTemplate.update("UPDATE cliente c JOIN " + grupos +
+                " SET c." + coluna + " = g.chave WHERE c.id = g.primeiro AND c." + coluna + " IS NULL");
+        log.info("Coluna {}: {} chaves preenchidas, {} removidas de registros repetidos", coluna, preenchidas, removidas);
+
+        if (!restrita) {
+            try {
+                if (indiceExiste(indiceAntigo)) {
+                    jdbcTemplate.execute("DROP INDEX " + indiceAntigo + " ON cliente");
+                }
+                jdbcTemplate.execute("ALTER TABLE cliente ADD CONSTRAINT " + restricao + " UNIQUE (" + coluna + ")");
+                log.info("Restrição {} criada", restricao);
+            } catch (DataAccessException e) {
+                // Uma gravação concorrente pode ter criado nova repetição; a próxima inicialização tenta de novo
+                log.error("Não foi possível criar a restrição {}: {}", restricao, e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private boolean indiceExiste(String nome) {
+        Integer indices = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'cliente' AND index_name = ?", Integer.class, nome);
+        return indices != null && indices > 0;
+    }
+}
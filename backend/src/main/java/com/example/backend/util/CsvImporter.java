@@ -0,0 +1,32 @@
+package com.example.backend.util;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Component
+public class CsvImporter {
+
+    private static final CSVFormat FORMATO = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    public void ler(InputStream in, Consumer<LinhaImportacao> consumidor) throws IOException {
+        try (CSVParser parser = FORMATO.parse(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            // Os registros são lidos um a um; nada além da linha atual fica em memória
+            for (CSVRecord registro : parser) {
+                consumidor.accept(LinhaImportacao.deColunas(registro.getRecordNumber() + 1, registro.toMap()));
+            }
+        }
+    }
+}
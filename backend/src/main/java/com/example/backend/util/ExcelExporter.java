@@ -1,28 +1,38 @@
 package com.example.backend.util;
 
-import com.example.backend.dto.ClienteDTO;
-import com.example.backend.model.Cliente;
-import com.example.backend.repository.EnderecoRepository;
+import com.example.backend.dto.ClienteExportacaoDTO;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @Component
 public class ExcelExporter {
 
-    @Autowired
-    private EnderecoRepository enderecoRepository;
+    // Quantidade de linhas mantidas em memória; as demais vão para arquivo temporário
+    private static final int JANELA_LINHAS = 100;
 
-    public byte[] exportarClientes(List<ClienteDTO> clientes) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    // Larguras fixas (em caracteres): autoSizeColumn exigiria manter todas as linhas em memória
+    private static final int[] LARGURAS = {8, 12, 20, 40, 35, 18, 12, 8};
+
+    public void exportarClientes(Stream<ClienteExportacaoDTO> clientes, OutputStream out) throws IOException {
+        // O XLSX é um zip cujo conteúdo só é escrito em workbook.write, depois de todas as linhas: o corpo não
+        // tem como sair antes disso. Descarregar agora ao menos envia status e cabeçalhos (o download começa no
+        // navegador) enquanto a planilha é montada
+        out.flush();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(JANELA_LINHAS);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("Clientes");
 
             String[] columns = {"ID", "Tipo", "CPF/CNPJ", "Nome/Razão Social", "E-mail", "Telefone", "CEP", "Ativo"};
+            for (int i = 0; i < columns.length; i++) {
+                sheet.setColumnWidth(i, LARGURAS[i] * 256);
+            }
 
             // Fontes
             Font headerFont = workbook.createFont();
@@ -64,18 +74,18 @@ public class ExcelExporter {
             }
 
             int rowNum = 1;
-            for (ClienteDTO cliente : clientes) {
+            Iterator<ClienteExportacaoDTO> iterator = clientes.iterator();
+            while (iterator.hasNext()) {
+                ClienteExportacaoDTO cliente = iterator.next();
                 Row row = sheet.createRow(rowNum++);
                 String[] dados = {
                         String.valueOf(cliente.getId()),
                         cliente.getTipoPessoa().toString(),
                         cliente.getCpfCnpj(),
-                        cliente.getTipoPessoa() == Cliente.TipoPessoa.FISICA ? cliente.getNome() : cliente.getRazaoSocial(),
+                        cliente.getNomeOuRazaoSocial(),
                         cliente.getEmail(),
-                        cliente.getEnderecos().isEmpty() ? "" :
-                                enderecoRepository.getTelefoneByEnderecoId(cliente.getEnderecos().get(0).getId()),
-                        cliente.getEnderecos().isEmpty() ? "" :
-                                enderecoRepository.getCepByEnderecoId(cliente.getEnderecos().get(0).getId()),
+                        cliente.getTelefone() != null ? cliente.getTelefone() : "",
+                        cliente.getCep() != null ? cliente.getCep() : "",
                         cliente.getAtivo() ? "Sim" : "Não"
                 };
 
@@ -86,12 +96,10 @@ public class ExcelExporter {
                 }
             }
 
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
             workbook.write(out);
-            return out.toByteArray();
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 }
\ No newline at end of file
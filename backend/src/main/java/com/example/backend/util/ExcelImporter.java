@@ -0,0 +1,102 @@
+package com.example.backend.util;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Component
+public class ExcelImporter {
+
+    /**
+     * Lê a primeira planilha pela API de eventos (SAX) do POI, sem montar o workbook em memória.
+     * A primeira linha deve conter os nomes das colunas; datas devem estar em texto no formato ISO.
+     */
+    public void ler(InputStream in, Consumer<LinhaImportacao> consumidor) throws IOException {
+        // O pacote OOXML precisa de acesso aleatório ao zip; a partir de arquivo ele não é carregado inteiro
+        Path arquivo = Files.createTempFile("importacao-clientes", ".xlsx");
+        try {
+            Files.copy(in, arquivo, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage pacote = OPCPackage.open(arquivo.toFile(), PackageAccess.READ)) {
+                XSSFReader leitor = new XSSFReader(pacote);
+                Iterator<InputStream> planilhas = leitor.getSheetsData();
+                if (!planilhas.hasNext()) {
+                    return;
+                }
+
+                try (InputStream planilha = planilhas.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(leitor.getStylesTable(), null,
+                            new ReadOnlySharedStringsTable(pacote), new LeitorLinhas(consumidor),
+                            new DataFormatter(), false));
+                    parser.parse(new InputSource(planilha));
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Arquivo XLSX inválido", e);
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    private static class LeitorLinhas implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<LinhaImportacao> consumidor;
+        private final List<String> cabecalho = new ArrayList<>();
+        private int numeroLinha;
+        private Map<String, String> linhaAtual;
+
+        LeitorLinhas(Consumer<LinhaImportacao> consumidor) {
+            this.consumidor = consumidor;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            numeroLinha = rowNum;
+            linhaAtual = new HashMap<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum > 0 && !linhaAtual.isEmpty()) {
+                consumidor.accept(LinhaImportacao.deColunas(rowNum + 1, linhaAtual));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int coluna = new CellReference(cellReference).getCol();
+            if (numeroLinha == 0) {
+                while (cabecalho.size() <= coluna) {
+                    cabecalho.add(null);
+                }
+                cabecalho.set(coluna, formattedValue);
+            } else if (coluna < cabecalho.size() && cabecalho.get(coluna) != null) {
+                linhaAtual.put(cabecalho.get(coluna), formattedValue);
+            }
+        }
+    }
+}
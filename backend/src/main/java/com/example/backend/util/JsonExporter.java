@@ -0,0 +1,73 @@
+package com.example.backend.util;
+
+import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.FormatoTransmissao;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Component
+public class JsonExporter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter escritor;
+
+    public JsonExporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // O descarregamento é feito por bloco, não a cada cliente
+        this.escritor = objectMapper.writerFor(ClienteDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public Escritor abrir(FormatoTransmissao formato, OutputStream out) throws IOException {
+        JsonGenerator gerador = objectMapper.getFactory().createGenerator(out);
+        gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return new Escritor(gerador, formato);
+    }
+
+    /**
+     * Escreve os clientes à medida que são recebidos: um documento por linha (NDJSON) ou
+     * os elementos de um único array JSON.
+     */
+    public class Escritor implements Closeable {
+
+        private final JsonGenerator gerador;
+        private final FormatoTransmissao formato;
+
+        private Escritor(JsonGenerator gerador, FormatoTransmissao formato) throws IOException {
+            this.gerador = gerador;
+            this.formato = formato;
+            if (formato == FormatoTransmissao.JSON) {
+                gerador.writeStartArray();
+            } else {
+                // Sem o espaço que o Jackson põe entre valores de raiz: cada linha começa no próprio documento
+                gerador.setRootValueSeparator(null);
+            }
+        }
+
+        public void escrever(ClienteDTO cliente) throws IOException {
+            escritor.writeValue(gerador, cliente);
+            if (formato == FormatoTransmissao.NDJSON) {
+                gerador.writeRaw('\n');
+            }
+        }
+
+        public void descarregar() throws IOException {
+            gerador.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (formato == FormatoTransmissao.JSON) {
+                gerador.writeEndArray();
+            }
+            gerador.close();
+        }
+    }
+}
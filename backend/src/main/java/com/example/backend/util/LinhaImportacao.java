@@ -0,0 +1,93 @@
+package com.example.backend.util;
+
+import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.EnderecoDTO;
+import com.example.backend.model.Cliente;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Uma linha lida de um arquivo de importação: o cliente convertido ou o erro de conversão.
+ */
+@Getter
+@AllArgsConstructor
+public class LinhaImportacao {
+
+    private final long numero;
+    private final ClienteDTO cliente;
+    private final String erro;
+
+    /**
+     * Converte uma linha de planilha/CSV (cabeçalho -> valor) em cliente. As colunas seguem
+     * os nomes dos campos de {@link ClienteDTO} e {@link EnderecoDTO}, sem diferenciar maiúsculas.
+     */
+    public static LinhaImportacao deColunas(long numero, Map<String, String> colunas) {
+        Map<String, String> valores = new HashMap<>();
+        colunas.forEach((coluna, valor) -> {
+            if (coluna != null && valor != null && !valor.isBlank()) {
+                valores.put(coluna.trim().toLowerCase(Locale.ROOT), valor.trim());
+            }
+        });
+
+        try {
+            ClienteDTO cliente = new ClienteDTO();
+            String tipoPessoa = valores.get("tipopessoa");
+            cliente.setTipoPessoa(tipoPessoa != null ? Cliente.TipoPessoa.valueOf(tipoPessoa.toUpperCase(Locale.ROOT)) : null);
+            cliente.setCpfCnpj(valores.get("cpfcnpj"));
+            cliente.setNome(valores.get("nome"));
+            cliente.setRg(valores.get("rg"));
+            cliente.setDataNascimento(data(valores.get("datanascimento")));
+            cliente.setRazaoSocial(valores.get("razaosocial"));
+            cliente.setInscricaoEstadual(valores.get("inscricaoestadual"));
+            cliente.setDataCriacao(data(valores.get("datacriacao")));
+            cliente.setEmail(valores.get("email"));
+            cliente.setAtivo(booleano(valores.get("ativo")));
+
+            // Um endereço (principal) por linha, quando alguma coluna de endereço estiver preenchida
+            if (valores.containsKey("logradouro") || valores.containsKey("cep") || valores.containsKey("cidade")) {
+                EnderecoDTO endereco = new EnderecoDTO();
+                endereco.setLogradouro(valores.get("logradouro"));
+                endereco.setNumero(valores.get("numero"));
+                endereco.setCep(valores.get("cep"));
+                endereco.setBairro(valores.get("bairro"));
+                endereco.setTelefone(valores.get("telefone"));
+                endereco.setCidade(valores.get("cidade"));
+                endereco.setEstado(valores.get("estado"));
+                endereco.setComplemento(valores.get("complemento"));
+                endereco.setEnderecoPrincipal(true);
+                cliente.setEnderecos(List.of(endereco));
+            } else {
+                cliente.setEnderecos(List.of());
+            }
+
+            return new LinhaImportacao(numero, cliente, null);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new LinhaImportacao(numero, null, "Valor inválido: " + e.getMessage());
+        }
+    }
+
+    private static LocalDate data(String valor) {
+        return valor != null ? LocalDate.parse(valor) : null;
+    }
+
+    private static Boolean booleano(String valor) {
+        if (valor == null) {
+            return Boolean.TRUE;
+        }
+        switch (valor.toLowerCase(Locale.ROOT)) {
+            case "true": case "sim": case "s": case "1":
+                return Boolean.TRUE;
+            case "false": case "nao": case "não": case "n": case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("ativo = " + valor);
+        }
+    }
+}
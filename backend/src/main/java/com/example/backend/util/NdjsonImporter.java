@@ -0,0 +1,42 @@
+package com.example.backend.util;
+
+import com.example.backend.dto.ClienteDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Component
+public class NdjsonImporter {
+
+    private final ObjectReader leitor;
+
+    public NdjsonImporter(ObjectMapper objectMapper) {
+        this.leitor = objectMapper.readerFor(ClienteDTO.class);
+    }
+
+    public void ler(InputStream in, Consumer<LinhaImportacao> consumidor) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long numero = 0;
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            numero++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            // Cada linha é um documento independente: um JSON inválido rejeita só a própria linha
+            try {
+                consumidor.accept(new LinhaImportacao(numero, leitor.readValue(linha), null));
+            } catch (JsonProcessingException e) {
+                consumidor.accept(new LinhaImportacao(numero, null, "JSON inválido: " + e.getOriginalMessage()));
+            }
+        }
+    }
+}
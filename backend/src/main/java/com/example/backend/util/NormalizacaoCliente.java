@@ -0,0 +1,21 @@
+package com.example.backend.util;
+
+import java.util.Locale;
+
+/**
+ * Formas canônicas das chaves de cliente: CPF/CNPJ só com dígitos e e-mail em minúsculas,
+ * para que "123.456.789-09" e "12345678909" sejam tratados como o mesmo documento.
+ */
+public final class NormalizacaoCliente {
+
+    private NormalizacaoCliente() {
+    }
+
+    public static String cpfCnpj(String valor) {
+        return valor != null ? valor.replaceAll("[^0-9]", "") : null;
+    }
+
+    public static String email(String valor) {
+        return valor != null ? valor.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
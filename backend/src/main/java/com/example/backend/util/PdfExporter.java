@@ -1,13 +1,10 @@
 package com.example.backend.util;
 
-import com.example.backend.dto.ClienteDTO;
-import com.example.backend.model.Cliente;
-import com.example.backend.repository.EnderecoRepository;
+import com.example.backend.dto.ClienteExportacaoDTO;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
@@ -15,19 +12,23 @@ import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Component
 public class PdfExporter {
 
-    @Autowired
-    private EnderecoRepository enderecoRepository;
+    // Quantidade de linhas acumuladas na tabela antes de serem descarregadas no documento
+    private static final int LINHAS_POR_BLOCO = 500;
 
-    public byte[] exportarClientes(List<ClienteDTO> clientes) throws DocumentException {
+    public void exportarClientes(Stream<ClienteExportacaoDTO> clientes, OutputStream out) throws DocumentException {
         Document document = new Document(PageSize.A4);
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
 
-        PdfWriter.getInstance(document, out);
+        // O stream de saída pertence a quem chamou; o documento não deve fechá-lo
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
         document.open();
 
         Font fontTitulo = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, BaseColor.BLACK);
@@ -42,6 +43,9 @@ public class PdfExporter {
         table.setSpacingAfter(10f);
         // Larguras proporcionais: ajuste conforme necessário
         table.setWidths(new float[]{1.0f, 1.6f, 2.4f, 3f, 3f, 2.5f, 2f, 1.8f});
+        // Tabela incompleta: as linhas já adicionadas ao documento são liberadas da memória
+        table.setComplete(false);
+        table.setHeaderRows(1);
         Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, BaseColor.WHITE);
         Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 9);
 
@@ -58,17 +62,18 @@ public class PdfExporter {
             table.addCell(headerCell);
         }
 
-        for (ClienteDTO cliente : clientes) {
+        int linhas = 0;
+        Iterator<ClienteExportacaoDTO> iterator = clientes.iterator();
+        while (iterator.hasNext()) {
+            ClienteExportacaoDTO cliente = iterator.next();
             String[] dados = {
                     String.valueOf(cliente.getId()),
                     cliente.getTipoPessoa().toString(),
                     cliente.getCpfCnpj(),
-                    cliente.getTipoPessoa() == Cliente.TipoPessoa.FISICA ? cliente.getNome() : cliente.getRazaoSocial(),
+                    cliente.getNomeOuRazaoSocial(),
                     cliente.getEmail(),
-                    cliente.getEnderecos().isEmpty() ? "" :
-                            enderecoRepository.getTelefoneByEnderecoId(cliente.getEnderecos().get(0).getId()),
-                    cliente.getEnderecos().isEmpty() ? "" :
-                            enderecoRepository.getCepByEnderecoId(cliente.getEnderecos().get(0).getId()),
+                    cliente.getTelefone() != null ? cliente.getTelefone() : "",
+                    cliente.getCep() != null ? cliente.getCep() : "",
                     cliente.getAtivo() ? "Sim" : "Não"
             };
 
@@ -79,16 +84,19 @@ public class PdfExporter {
                 cell.setPadding(5);
                 table.addCell(cell);
             }
+
+            if (++linhas % LINHAS_POR_BLOCO == 0) {
+                document.add(table);
+            }
         }
 
+        table.setComplete(true);
         document.add(table);
         document.close();
-
-        return out.toByteArray();
     }
 
     // Método alternativo usando Thymeleaf para templates HTML mais complexos
-    public byte[] exportarClientesComTemplate(List<ClienteDTO> clientes) throws DocumentException {
+    public byte[] exportarClientesComTemplate(List<ClienteExportacaoDTO> clientes) throws DocumentException {
         ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
         templateResolver.setSuffix(".html");
         templateResolver.setTemplateMode(TemplateMode.HTML);
@@ -103,6 +111,8 @@ public class PdfExporter {
 
         // Converter HTML para PDF (implementação simplificada)
         // Na prática, você pode usar Flying Saucer ou outro conversor HTML para PDF
-        return exportarClientes(clientes); // Usando a implementação simples por enquanto
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportarClientes(clientes.stream(), out); // Usando a implementação simples por enquanto
+        return out.toByteArray();
     }
 }
\ No newline at end of file
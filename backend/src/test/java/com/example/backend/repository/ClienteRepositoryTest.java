@@ -0,0 +1,127 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.OrdenacaoCliente;
+import com.example.backend.model.Cliente;
+import com.example.backend.model.Endereco;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que carregar clientes com endereços custa um número fixo de comandos SQL,
+ * independente da quantidade de clientes (sem N+1).
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:clientes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=100",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.search.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ClienteRepositoryTest {
+
+    private static final int QUANTIDADE_CLIENTES = 30;
+    private static final int ENDERECOS_POR_CLIENTE = 2;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics estatisticas;
+    private Long primeiroId;
+
+    @BeforeEach
+    void popular() {
+        for (int i = 0; i < QUANTIDADE_CLIENTES; i++) {
+            Cliente cliente = new Cliente();
+            cliente.setTipoPessoa(Cliente.TipoPessoa.FISICA);
+            cliente.setCpfCnpj(String.format("%011d", i + 1));
+            cliente.setNome("Cliente " + i);
+            cliente.setEmail("cliente" + i + "@example.com");
+            cliente.setAtivo(true);
+            for (int j = 0; j < ENDERECOS_POR_CLIENTE; j++) {
+                cliente.getEnderecos().add(endereco(cliente, j));
+            }
+            entityManager.persist(cliente);
+            if (primeiroId == null) {
+                primeiroId = cliente.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    void listagemCompletaCarregaEnderecosNaMesmaConsulta() {
+        List<Cliente> clientes = clienteRepository.findAllComEnderecos();
+
+        assertThat(clientes).hasSize(QUANTIDADE_CLIENTES);
+        assertThat(totalEnderecos(clientes)).isEqualTo(QUANTIDADE_CLIENTES * ENDERECOS_POR_CLIENTE);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listagemDeAtivosCarregaEnderecosNaMesmaConsulta() {
+        List<Cliente> clientes = clienteRepository.findAtivosComEnderecos();
+
+        assertThat(totalEnderecos(clientes)).isEqualTo(QUANTIDADE_CLIENTES * ENDERECOS_POR_CLIENTE);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void detalheCarregaEnderecosNaMesmaConsulta() {
+        Cliente cliente = clienteRepository.findComEnderecosById(primeiroId).orElseThrow();
+
+        assertThat(cliente.getEnderecos()).hasSize(ENDERECOS_POR_CLIENTE);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void paginaCarregaEnderecosEmUmUnicoLote() {
+        // Fetch join não combina com limite de linhas: a página vem em uma consulta e os endereços em um lote
+        List<Cliente> clientes = clienteRepository.buscarPagina(
+                null, OrdenacaoCliente.ID, Sort.Direction.ASC, null, null, 0, 20);
+
+        assertThat(clientes).hasSize(20);
+        assertThat(totalEnderecos(clientes)).isEqualTo(20 * ENDERECOS_POR_CLIENTE);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static int totalEnderecos(List<Cliente> clientes) {
+        return clientes.stream().mapToInt(cliente -> cliente.getEnderecos().size()).sum();
+    }
+
+    private static Endereco endereco(Cliente cliente, int indice) {
+        Endereco endereco = new Endereco();
+        endereco.setLogradouro("Rua " + indice);
+        endereco.setNumero(String.valueOf(indice + 1));
+        endereco.setCep("01001-000");
+        endereco.setBairro("Centro");
+        endereco.setCidade("São Paulo");
+        endereco.setEstado("SP");
+        endereco.setEnderecoPrincipal(indice == 0);
+        endereco.setCliente(cliente);
+        return endereco;
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.backend.benchmarks;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.EnderecoDTO;
+import com.example.backend.dto.FormatoImportacao;
+import com.example.backend.dto.ResultadoImportacaoDTO;
+import com.example.backend.service.ImportacaoClienteService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga da API de clientes: sobe o backend contra um H2 em memória (modo MySQL),
+ * popula uma massa sintética pela importação em lote e executa uma carga mista
+ * (leitura, escrita, listagem e exportação) em níveis fixos de concorrência,
+ * reportando vazão e latências p50/p95/p99 por endpoint.
+ *
+ * <p>Parâmetros (propriedades de sistema):
+ * <ul>
+ *     <li>{@code carga.clientes} – clientes na massa inicial (padrão 10000)</li>
+ *     <li>{@code carga.concorrencias} – níveis de concorrência, separados por vírgula (padrão 1,8,32)</li>
+ *     <li>{@code carga.duracao} – segundos medidos por nível (padrão 30)</li>
+ *     <li>{@code carga.aquecimento} – segundos descartados antes de cada nível (padrão 10)</li>
+ * </ul>
+ *
+ * <p>Exemplo: {@code java -Dcarga.clientes=50000 -cp benchmarks/target/benchmarks.jar com.example.backend.benchmarks.CargaApi}
+ */
+public class CargaApi {
+
+    private static final String JSON = "application/json";
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String base;
+    private final long maiorIdInicial;
+    private final AtomicLong sequencia = new AtomicLong();
+    // Clientes criados durante a carga, candidatos à exclusão
+    private final List<Long> criados = Collections.synchronizedList(new ArrayList<>());
+
+    private CargaApi(String base, ObjectMapper objectMapper, long maiorIdInicial) {
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.objectMapper = objectMapper;
+        this.base = base;
+        this.maiorIdInicial = maiorIdInicial;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int quantidadeClientes = Integer.getInteger("carga.clientes", 10_000);
+        int[] concorrencias = Arrays.stream(System.getProperty("carga.concorrencias", "1,8,32").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int duracao = Integer.getInteger("carga.duracao", 30);
+        int aquecimento = Integer.getInteger("carga.aquecimento", 10);
+
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(BackendApplication.class)
+                .properties("spring.config.location=classpath:carga.properties")
+                .run(args)) {
+            ObjectMapper objectMapper = contexto.getBean(ObjectMapper.class);
+            popular(contexto.getBean(ImportacaoClienteService.class), objectMapper, quantidadeClientes);
+
+            Long maiorId = contexto.getBean(JdbcTemplate.class).queryForObject("select max(id) from cliente", Long.class);
+            String porta = contexto.getEnvironment().getProperty("local.server.port");
+            CargaApi carga = new CargaApi("http://localhost:" + porta + "/api/clientes", objectMapper,
+                    maiorId != null ? maiorId : 0);
+
+            for (int concorrencia : concorrencias) {
+                carga.executar(concorrencia, aquecimento);
+                Map<String, Amostras> resultado = carga.executar(concorrencia, duracao);
+                imprimir(concorrencia, duracao, resultado);
+            }
+        }
+    }
+
+    static void popular(ImportacaoClienteService importacao, ObjectMapper objectMapper,
+                                int quantidade) throws IOException {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        for (ClienteDTO cliente : DadosSinteticos.clientesDto(quantidade)) {
+            cliente.setId(null);
+            for (EnderecoDTO endereco : cliente.getEnderecos()) {
+                endereco.setId(null);
+                endereco.setClienteId(null);
+            }
+            ndjson.write(objectMapper.writeValueAsBytes(cliente));
+            ndjson.write('\n');
+        }
+
+        long inicio = System.nanoTime();
+        ResultadoImportacaoDTO resultado = importacao.importar(
+                new ByteArrayInputStream(ndjson.toByteArray()), FormatoImportacao.NDJSON);
+        System.out.printf("Massa inicial: %d clientes importados (%d rejeitados) em %d ms%n",
+                resultado.getImportados(), resultado.getRejeitados(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+    }
+
+    private Map<String, Amostras> executar(int concorrencia, int segundos) throws InterruptedException {
+        Map<String, Amostras> amostras = new ConcurrentHashMap<>();
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < fim) {
+                    Operacao operacao = sortearOperacao();
+                    long inicio = System.nanoTime();
+                    boolean sucesso;
+                    try {
+                        sucesso = operacao.executar();
+                    } catch (IOException e) {
+                        sucesso = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    amostras.computeIfAbsent(operacao.nome, nome -> new Amostras())
+                            .registrar(System.nanoTime() - inicio, sucesso);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(segundos + 600L, TimeUnit.SECONDS);
+        return amostras;
+    }
+
+    // Distribuição da carga mista; os pesos somam 100
+    private Operacao sortearOperacao() {
+        int sorteio = ThreadLocalRandom.current().nextInt(100);
+        if (sorteio < 35) {
+            return new Operacao("GET /{id}", () -> enviar(get("/" + idExistente())));
+        } else if (sorteio < 55) {
+            return new Operacao("GET /paginado", () -> enviar(get("/paginado?tamanho=50&ordenarPor=NOME&pagina="
+                    + ThreadLocalRandom.current().nextInt(20))));
+        } else if (sorteio < 65) {
+            return new Operacao("GET /paginado?estado", () -> enviar(get("/paginado?tamanho=50&estado=PE&ativo=true")));
+        } else if (sorteio < 75) {
+            return new Operacao("POST /", this::criar);
+        } else if (sorteio < 85) {
+            return new Operacao("PATCH /{id}/status", () -> enviar(HttpRequest.newBuilder(
+                    URI.create(base + "/" + idExistente() + "/status?ativo=" + ThreadLocalRandom.current().nextBoolean()))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build()));
+        } else if (sorteio < 90) {
+            return new Operacao("PUT /{id}", this::atualizar);
+        } else if (sorteio < 98) {
+            return new Operacao("DELETE /{id}", this::excluir);
+        }
+        return new Operacao("GET /exportar-excel", () -> enviar(get("/exportar-excel?estado=RS&tipoPessoa=JURIDICA")));
+    }
+
+    private boolean criar() throws IOException, InterruptedException {
+        HttpResponse<byte[]> resposta = http.send(HttpRequest.newBuilder(URI.create(base))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(novoCliente())))
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (resposta.statusCode() / 100 != 2) {
+            return false;
+        }
+        criados.add(objectMapper.readValue(resposta.body(), ClienteDTO.class).getId());
+        return true;
+    }
+
+    private boolean atualizar() throws IOException, InterruptedException {
+        long id = idExistente();
+        HttpResponse<byte[]> resposta = http.send(get("/" + id), HttpResponse.BodyHandlers.ofByteArray());
+        if (resposta.statusCode() != 200) {
+            // Cliente removido por outra operação da carga: não conta como falha da atualização
+            return resposta.statusCode() == 400;
+        }
+        ClienteDTO cliente = objectMapper.readValue(resposta.body(), ClienteDTO.class);
+        cliente.setEmail("atualizado" + sequencia.incrementAndGet() + "@example.com");
+        int status = http.send(HttpRequest.newBuilder(URI.create(base + "/" + id))
+                .header("Content-Type", JSON)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(cliente)))
+                .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        // 409: outra operação alterou o cliente entre o GET e o PUT (controle otimista), não é falha
+        return status / 100 == 2 || status == 409;
+    }
+
+    private boolean excluir() throws IOException, InterruptedException {
+        Long id = null;
+        synchronized (criados) {
+            if (!criados.isEmpty()) {
+                id = criados.remove(ThreadLocalRandom.current().nextInt(criados.size()));
+            }
+        }
+        if (id == null) {
+            return criar();
+        }
+        return enviar(HttpRequest.newBuilder(URI.create(base + "/" + id)).DELETE().build());
+    }
+
+    private ClienteDTO novoCliente() {
+        long numero = sequencia.incrementAndGet();
+        ClienteDTO cliente = DadosSinteticos.clientesDto(1).get(0);
+        cliente.setId(null);
+        cliente.setCpfCnpj(String.format(cliente.getCpfCnpj().length() == 11 ? "9%010d" : "9%013d", numero));
+        cliente.setEmail("carga" + numero + "@example.com");
+        for (EnderecoDTO endereco : cliente.getEnderecos()) {
+            endereco.setId(null);
+            endereco.setClienteId(null);
+        }
+        return cliente;
+    }
+
+    private long idExistente() {
+        return 1 + ThreadLocalRandom.current().nextLong(Math.max(maiorIdInicial, 1));
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(URI.create(base + caminho)).GET().build();
+    }
+
+    private boolean enviar(HttpRequest requisicao) throws IOException, InterruptedException {
+        return http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+    }
+
+    private static void imprimir(int concorrencia, int segundos, Map<String, Amostras> resultado) {
+        System.out.printf("%n=== Concorrência %d (%d s) ===%n", concorrencia, segundos);
+        System.out.printf("%-22s %9s %9s %8s %10s %10s %10s %10s%n",
+                "endpoint", "req", "req/s", "erros", "p50 (ms)", "p95 (ms)", "p99 (ms)", "máx (ms)");
+        long total = 0;
+        for (Map.Entry<String, Amostras> entrada : new TreeMap<>(resultado).entrySet()) {
+            long[] latencias = entrada.getValue().ordenadas();
+            total += latencias.length;
+            System.out.printf("%-22s %9d %9.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+                    entrada.getKey(), latencias.length, (double) latencias.length / segundos,
+                    entrada.getValue().erros(),
+                    percentil(latencias, 0.50), percentil(latencias, 0.95), percentil(latencias, 0.99),
+                    latencias.length > 0 ? latencias[latencias.length - 1] / 1e6 : 0);
+        }
+        System.out.printf("%-22s %9d %9.1f%n", "total", total, (double) total / segundos);
+    }
+
+    private static double percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface Chamada {
+        boolean executar() throws IOException, InterruptedException;
+    }
+
+    private static final class Operacao {
+
+        private final String nome;
+        private final Chamada chamada;
+
+        private Operacao(String nome, Chamada chamada) {
+            this.nome = nome;
+            this.chamada = chamada;
+        }
+
+        private boolean executar() throws IOException, InterruptedException {
+            return chamada.executar();
+        }
+    }
+
+    /**
+     * Latências (em nanossegundos) e falhas de um endpoint durante um nível de concorrência.
+     */
+    private static final class Amostras {
+
+        private final List<Long> latencias = new ArrayList<>();
+        private long erros;
+
+        synchronized void registrar(long nanos, boolean sucesso) {
+            latencias.add(nanos);
+            if (!sucesso) {
+                erros++;
+            }
+        }
+
+        synchronized long erros() {
+            return erros;
+        }
+
+        synchronized long[] ordenadas() {
+            long[] valores = latencias.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(valores);
+            return valores;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.backend.benchmarks;
+
+import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.ClienteExportacaoDTO;
+import com.example.backend.dto.EnderecoDTO;
+import com.example.backend.model.Cliente;
+import com.example.backend.model.Endereco;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera clientes sintéticos determinísticos (semente fixa) para os benchmarks.
+ */
+final class DadosSinteticos {
+
+    private static final String[] CIDADES = {"São Paulo", "Curitiba", "Belo Horizonte", "Recife", "Porto Alegre"};
+    private static final String[] ESTADOS = {"SP", "PR", "MG", "PE", "RS"};
+
+    private DadosSinteticos() {
+    }
+
+    static List<ClienteExportacaoDTO> linhasExportacao(int quantidade) {
+        Random random = new Random(42);
+        List<ClienteExportacaoDTO> linhas = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            boolean fisica = random.nextBoolean();
+            linhas.add(new ClienteExportacaoDTO(
+                    (long) i,
+                    fisica ? Cliente.TipoPessoa.FISICA : Cliente.TipoPessoa.JURIDICA,
+                    documento(random, fisica),
+                    fisica ? "Cliente " + i : null,
+                    fisica ? null : "Empresa " + i + " Ltda",
+                    "cliente" + i + "@example.com",
+                    telefone(random),
+                    cep(random),
+                    random.nextInt(10) > 0));
+        }
+        return linhas;
+    }
+
+    static List<ClienteDTO> clientesDto(int quantidade) {
+        Random random = new Random(42);
+        List<ClienteDTO> clientes = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            boolean fisica = random.nextBoolean();
+            ClienteDTO dto = new ClienteDTO();
+            dto.setId((long) i);
+            dto.setTipoPessoa(fisica ? Cliente.TipoPessoa.FISICA : Cliente.TipoPessoa.JURIDICA);
+            dto.setCpfCnpj(documento(random, fisica));
+            if (fisica) {
+                dto.setNome("Cliente " + i);
+                dto.setRg(String.valueOf(10_000_000 + random.nextInt(89_999_999)));
+                dto.setDataNascimento(LocalDate.of(1950 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            } else {
+                dto.setRazaoSocial("Empresa " + i + " Ltda");
+                dto.setInscricaoEstadual(String.valueOf(100_000_000 + random.nextInt(899_999_999)));
+                dto.setDataCriacao(LocalDate.of(1980 + random.nextInt(40), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            }
+            dto.setEmail("cliente" + i + "@example.com");
+            dto.setAtivo(true);
+
+            List<EnderecoDTO> enderecos = new ArrayList<>(2);
+            for (int e = 0; e < 2; e++) {
+                int indice = random.nextInt(CIDADES.length);
+                enderecos.add(new EnderecoDTO((long) (i * 2 + e), "Rua " + random.nextInt(1000),
+                        String.valueOf(random.nextInt(5000)), cep(random), "Centro", telefone(random),
+                        CIDADES[indice], ESTADOS[indice], null, (long) i, e == 0));
+            }
+            dto.setEnderecos(enderecos);
+            clientes.add(dto);
+        }
+        return clientes;
+    }
+
+    static List<Cliente> clientes(int quantidade) {
+        List<ClienteDTO> dtos = clientesDto(quantidade);
+        List<Cliente> clientes = new ArrayList<>(quantidade);
+        for (ClienteDTO dto : dtos) {
+            Cliente cliente = new Cliente();
+            cliente.setId(dto.getId());
+            cliente.setTipoPessoa(dto.getTipoPessoa());
+            cliente.setCpfCnpj(dto.getCpfCnpj());
+            cliente.setNome(dto.getNome());
+            cliente.setRg(dto.getRg());
+            cliente.setDataNascimento(dto.getDataNascimento());
+            cliente.setRazaoSocial(dto.getRazaoSocial());
+            cliente.setInscricaoEstadual(dto.getInscricaoEstadual());
+            cliente.setDataCriacao(dto.getDataCriacao());
+            cliente.setEmail(dto.getEmail());
+            cliente.setAtivo(dto.getAtivo());
+            for (EnderecoDTO enderecoDto : dto.getEnderecos()) {
+                Endereco endereco = new Endereco();
+                endereco.setId(enderecoDto.getId());
+                endereco.setLogradouro(enderecoDto.getLogradouro());
+                endereco.setNumero(enderecoDto.getNumero());
+                endereco.setCep(enderecoDto.getCep());
+                endereco.setBairro(enderecoDto.getBairro());
+                endereco.setTelefone(enderecoDto.getTelefone());
+                endereco.setCidade(enderecoDto.getCidade());
+                endereco.setEstado(enderecoDto.getEstado());
+                endereco.setEnderecoPrincipal(enderecoDto.isEnderecoPrincipal());
+                endereco.setCliente(cliente);
+                cliente.getEnderecos().add(endereco);
+            }
+            clientes.add(cliente);
+        }
+        return clientes;
+    }
+
+    private static String documento(Random random, boolean fisica) {
+        int digitos = fisica ? 11 : 14;
+        StringBuilder sb = new StringBuilder(digitos);
+        for (int i = 0; i < digitos; i++) {
+            sb.append(random.nextInt(10));
+        }
+        return sb.toString();
+    }
+
+    private static String telefone(Random random) {
+        return "(" + (11 + random.nextInt(88)) + ") 9" + (1000_0000 + random.nextInt(8999_9999));
+    }
+
+    private static String cep(Random random) {
+        return String.format("%05d-%03d", random.nextInt(100_000), random.nextInt(1000));
+    }
+}
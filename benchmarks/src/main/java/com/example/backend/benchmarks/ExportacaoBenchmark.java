@@ -0,0 +1,49 @@
+package com.example.backend.benchmarks;
+
+import com.example.backend.dto.ClienteExportacaoDTO;
+import com.example.backend.util.ExcelExporter;
+import com.example.backend.util.PdfExporter;
+import com.itextpdf.text.DocumentException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração de Excel e PDF a partir das linhas de exportação, sem banco de dados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ExportacaoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int quantidade;
+
+    private final ExcelExporter excelExporter = new ExcelExporter();
+    private final PdfExporter pdfExporter = new PdfExporter();
+    private List<ClienteExportacaoDTO> linhas;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        linhas = DadosSinteticos.linhasExportacao(quantidade);
+    }
+
+    @Benchmark
+    public long excel() throws IOException {
+        SerializacaoBenchmark.ContadorBytes out = new SerializacaoBenchmark.ContadorBytes();
+        excelExporter.exportarClientes(linhas.stream(), out);
+        return out.total;
+    }
+
+    @Benchmark
+    public long pdf() throws DocumentException {
+        SerializacaoBenchmark.ContadorBytes out = new SerializacaoBenchmark.ContadorBytes();
+        pdfExporter.exportarClientes(linhas.stream(), out);
+        return out.total;
+    }
+}
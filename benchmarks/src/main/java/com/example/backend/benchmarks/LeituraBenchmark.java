@@ -0,0 +1,92 @@
+package com.example.backend.benchmarks;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.mapper.ClienteMapper;
+import com.example.backend.model.Cliente;
+import com.example.backend.repository.ClienteRepository;
+import com.example.backend.service.ImportacaoClienteService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
+/**
+ * Listagem completa de clientes (com endereços) em transação de escrita, como era feito antes,
+ * e no caminho somente leitura (transação readOnly + hint de leitura). Com o GCProfiler a
+ * diferença aparece principalmente na alocação por operação: sem os snapshots de dirty checking
+ * cada entidade carregada ocupa menos memória e não há verificação no flush.
+ * O ganho é esperado, não medido: nenhum resultado deste benchmark foi registrado ainda.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class LeituraBenchmark {
+
+    // Mesma consulta de ClienteRepository.findAllComEnderecos, sem o hint de somente leitura
+    private static final String CONSULTA_TODOS = "SELECT DISTINCT c FROM Cliente c LEFT JOIN FETCH c.enderecos";
+
+    @Param({"10000", "50000"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext contexto;
+    private ClienteRepository clienteRepository;
+    private ClienteMapper clienteMapper;
+    private EntityManager entityManager;
+    private TransactionTemplate transacaoEscrita;
+    private TransactionTemplate transacaoLeitura;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        contexto = new SpringApplicationBuilder(BackendApplication.class)
+                .properties("spring.config.location=classpath:carga.properties",
+                        "spring.main.web-application-type=none")
+                .run();
+        CargaApi.popular(contexto.getBean(ImportacaoClienteService.class), contexto.getBean(ObjectMapper.class),
+                quantidade);
+
+        clienteRepository = contexto.getBean(ClienteRepository.class);
+        clienteMapper = contexto.getBean(ClienteMapper.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(contexto.getBean(EntityManagerFactory.class));
+
+        PlatformTransactionManager transactionManager = contexto.getBean(PlatformTransactionManager.class);
+        transacaoEscrita = new TransactionTemplate(transactionManager);
+        transacaoLeitura = new TransactionTemplate(transactionManager);
+        transacaoLeitura.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public void listarEmTransacaoDeEscrita(Blackhole bh) {
+        transacaoEscrita.executeWithoutResult(status -> {
+            List<Cliente> clientes = entityManager.createQuery(CONSULTA_TODOS, Cliente.class)
+                    .setHint(HINT_PASS_DISTINCT_THROUGH, false)
+                    .getResultList();
+            clientes.forEach(cliente -> bh.consume(clienteMapper.toDto(cliente)));
+        });
+    }
+
+    @Benchmark
+    public void listarSomenteLeitura(Blackhole bh) {
+        transacaoLeitura.executeWithoutResult(status ->
+                clienteRepository.findAllComEnderecos().forEach(cliente -> bh.consume(clienteMapper.toDto(cliente))));
+    }
+}
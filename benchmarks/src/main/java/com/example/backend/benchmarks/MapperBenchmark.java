@@ -0,0 +1,83 @@
+package com.example.backend.benchmarks;
+
+import com.example.backend.dto.ClienteDTO;
+import com.example.backend.dto.EnderecoDTO;
+import com.example.backend.mapper.ClienteMapper;
+import com.example.backend.mapper.ClienteMapperImpl;
+import com.example.backend.mapper.EnderecoMapper;
+import com.example.backend.mapper.EnderecoMapperImpl;
+import com.example.backend.model.Cliente;
+import com.example.backend.model.Endereco;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão dos mappers MapStruct gerados, com a mesma injeção usada na aplicação
+ * (ClienteMapperImpl recebe EnderecoMapper pelo contexto Spring).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private static final int QUANTIDADE = 1_000;
+
+    private AnnotationConfigApplicationContext contexto;
+    private ClienteMapper clienteMapper;
+    private EnderecoMapper enderecoMapper;
+
+    private List<Cliente> clientes;
+    private List<ClienteDTO> clientesDto;
+    private Endereco endereco;
+    private EnderecoDTO enderecoDto;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = new AnnotationConfigApplicationContext(ClienteMapperImpl.class, EnderecoMapperImpl.class);
+        clienteMapper = contexto.getBean(ClienteMapper.class);
+        enderecoMapper = contexto.getBean(EnderecoMapper.class);
+
+        clientes = DadosSinteticos.clientes(QUANTIDADE);
+        clientesDto = DadosSinteticos.clientesDto(QUANTIDADE);
+        endereco = clientes.get(0).getEnderecos().get(0);
+        enderecoDto = clientesDto.get(0).getEnderecos().get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public void clienteToDto(Blackhole bh) {
+        for (Cliente cliente : clientes) {
+            bh.consume(clienteMapper.toDto(cliente));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public void clienteToEntity(Blackhole bh) {
+        for (ClienteDTO dto : clientesDto) {
+            bh.consume(clienteMapper.toEntity(dto));
+        }
+    }
+
+    @Benchmark
+    public EnderecoDTO enderecoToDto() {
+        return enderecoMapper.toDto(endereco);
+    }
+
+    @Benchmark
+    public Endereco enderecoToEntity() {
+        return enderecoMapper.toEntity(enderecoDto);
+    }
+}
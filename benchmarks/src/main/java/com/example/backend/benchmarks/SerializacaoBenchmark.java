@@ -0,0 +1,67 @@
+package com.example.backend.benchmarks;
+
+import com.example.backend.dto.ClienteDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson de List&lt;ClienteDTO&gt;, como feita pelos endpoints de listagem.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacaoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int quantidade;
+
+    private ObjectWriter writer;
+    private List<ClienteDTO> clientes;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        // Mesma configuração padrão do Spring Boot: datas como texto ISO (yyyy-MM-dd)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ClienteDTO.class));
+        clientes = DadosSinteticos.clientesDto(quantidade);
+    }
+
+    @Benchmark
+    public long serializarLista() throws IOException {
+        ContadorBytes out = new ContadorBytes();
+        writer.writeValue(out, clientes);
+        return out.total;
+    }
+
+    /**
+     * Descarta a saída, contando apenas os bytes escritos.
+     */
+    static final class ContadorBytes extends OutputStream {
+
+        long total;
+
+        @Override
+        public void write(int b) {
+            total++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            total += len;
+        }
+    }
+}
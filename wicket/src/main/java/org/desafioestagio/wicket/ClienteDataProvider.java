@@ -0,0 +1,46 @@
+package org.desafioestagio.wicket;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.model.LoadableDetachableModel;
+import org.desafioestagio.wicket.model.Cliente;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Fornece ao DataView apenas a página visível, consultada no backend. O tamanho de página é
+ * fixo para que o deslocamento pedido pelo DataView coincida com o número da página na API.
+ */
+public class ClienteDataProvider implements IDataProvider<Cliente> {
+
+    private final int tamanhoPagina;
+
+    public ClienteDataProvider(int tamanhoPagina) {
+        this.tamanhoPagina = tamanhoPagina;
+    }
+
+    @Override
+    public Iterator<? extends Cliente> iterator(long first, long count) {
+        List<Cliente> clientes = WicketApplication.get().getClienteApiService()
+                .listarPagina((int) (first / tamanhoPagina), tamanhoPagina);
+        return clientes.subList(0, (int) Math.min(count, clientes.size())).iterator();
+    }
+
+    @Override
+    public long size() {
+        return WicketApplication.get().getClienteApiService().contar();
+    }
+
+    @Override
+    public IModel<Cliente> model(Cliente cliente) {
+        Long id = cliente.getId();
+        // Só o id fica na sessão; o cliente é recarregado (via cache) quando necessário
+        return new LoadableDetachableModel<>(cliente) {
+            @Override
+            protected Cliente load() {
+                return WicketApplication.get().getClienteApiService().buscarPorId(id);
+            }
+        };
+    }
+}
@@ -2,9 +2,24 @@ package org.desafioestagio.wicket;
 
 import org.apache.wicket.Page;
 import org.apache.wicket.protocol.http.WebApplication;
+import org.desafioestagio.wicket.service.BackendClient;
+import org.desafioestagio.wicket.service.ClienteApiService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 
 public class WicketApplication extends WebApplication {
+
+    private static final String URL_BACKEND_PADRAO = "http://localhost:8080";
+
+    private BackendClient backendClient;
+    private ClienteApiService clienteApiService;
+
+    public static WicketApplication get() {
+        return (WicketApplication) WebApplication.get();
+    }
+
     @Override
     public Class<? extends Page> getHomePage() {
         return ClienteListPage.class;
@@ -20,5 +35,25 @@ public class WicketApplication extends WebApplication {
 
         // 👇 Desabilita CSP para permitir recursos externos (CDNs)
         getCspSettings().blocking().disabled();
+
+        // Um único cliente HTTP (pool de conexões + cache) para todas as sessões
+        String urlBackend = getInitParameter("backendUrl");
+        backendClient = BackendClient.criar(urlBackend != null ? urlBackend : URL_BACKEND_PADRAO);
+        clienteApiService = new ClienteApiService(backendClient);
+    }
+
+    @Override
+    protected void onDestroy() {
+        try {
+            backendClient.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            super.onDestroy();
+        }
+    }
+
+    public ClienteApiService getClienteApiService() {
+        return clienteApiService;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package org.desafioestagio.wicket.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+public class Pagina<T> implements Serializable {
+
+    private List<T> conteudo = new ArrayList<>();
+    private int tamanho;
+    private String proximoCursor;
+    private Long total;
+}
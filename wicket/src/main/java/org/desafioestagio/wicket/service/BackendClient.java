@@ -0,0 +1,135 @@
+package org.desafioestagio.wicket.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente HTTP do backend compartilhado pela aplicação. As conexões ficam em pool e são mantidas
+ * abertas entre as requisições; as respostas de GET passam pelo {@link CacheRespostas} e, depois
+ * de expiradas, são revalidadas com If-None-Match.
+ */
+public class BackendClient implements Closeable {
+
+    private final String urlBase;
+    private final CloseableHttpClient httpClient;
+    private final CacheRespostas cache;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public BackendClient(String urlBase, CacheRespostas cache) {
+        this.urlBase = urlBase.endsWith("/") ? urlBase.substring(0, urlBase.length() - 1) : urlBase;
+        this.cache = cache;
+
+        PoolingHttpClientConnectionManager conexoes = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(50)
+                .setMaxConnPerRoute(20)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(2))
+                        .setSocketTimeout(Timeout.ofSeconds(10))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(conexoes)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofSeconds(2))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    public <T> T get(String caminho, Map<String, ?> parametros, TypeReference<T> tipo) {
+        URI uri = montarUri(caminho, parametros);
+        String chave = uri.toString();
+
+        CacheRespostas.Entrada entrada = cache.buscar(chave);
+        if (entrada != null && entrada.valida()) {
+            return ler(entrada.corpo(), tipo);
+        }
+
+        HttpGet requisicao = new HttpGet(uri);
+        requisicao.setHeader(HttpHeaders.ACCEPT, "application/json");
+        if (entrada != null && entrada.etag() != null) {
+            requisicao.setHeader(HttpHeaders.IF_NONE_MATCH, entrada.etag());
+        }
+
+        try {
+            byte[] corpo = httpClient.execute(requisicao, resposta -> {
+                if (resposta.getCode() == HttpStatus.SC_NOT_MODIFIED && entrada != null) {
+                    cache.renovar(chave, entrada);
+                    return entrada.corpo();
+                }
+                if (resposta.getCode() != HttpStatus.SC_OK) {
+                    EntityUtils.consume(resposta.getEntity());
+                    throw new RuntimeException("Erro ao consultar " + uri + ": HTTP " + resposta.getCode());
+                }
+                byte[] conteudo = EntityUtils.toByteArray(resposta.getEntity());
+                Header etag = resposta.getFirstHeader(HttpHeaders.ETAG);
+                cache.guardar(chave, conteudo, etag != null ? etag.getValue() : null);
+                return conteudo;
+            });
+            return ler(corpo, tipo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao consultar " + uri, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+        cache.limpar();
+    }
+
+    private URI montarUri(String caminho, Map<String, ?> parametros) {
+        try {
+            URIBuilder builder = new URIBuilder(urlBase + caminho);
+            parametros.forEach((nome, valor) -> {
+                if (valor != null) {
+                    builder.addParameter(nome, valor.toString());
+                }
+            });
+            return builder.build();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Caminho inválido: " + caminho, e);
+        }
+    }
+
+    private <T> T ler(byte[] corpo, TypeReference<T> tipo) {
+        try {
+            return objectMapper.readValue(corpo, tipo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Resposta inválida do backend", e);
+        }
+    }
+
+    public static BackendClient criar(String urlBase) {
+        return new BackendClient(urlBase, new CacheRespostas(30, TimeUnit.SECONDS, 500));
+    }
+}
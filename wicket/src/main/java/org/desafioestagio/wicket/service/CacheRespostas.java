@@ -0,0 +1,48 @@
+package org.desafioestagio.wicket.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache LRU de respostas do backend compartilhado entre as sessões. Cada entrada guarda o corpo
+ * bruto e o ETag; depois de expirada ainda pode ser reaproveitada se o backend responder 304.
+ */
+public class CacheRespostas {
+
+    private final long ttlNanos;
+    private final Map<String, Entrada> entradas;
+
+    public CacheRespostas(long ttl, TimeUnit unidade, int maximoEntradas) {
+        this.ttlNanos = unidade.toNanos(ttl);
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> maisAntiga) {
+                return size() > maximoEntradas;
+            }
+        };
+    }
+
+    public synchronized Entrada buscar(String chave) {
+        return entradas.get(chave);
+    }
+
+    public synchronized void guardar(String chave, byte[] corpo, String etag) {
+        entradas.put(chave, new Entrada(corpo, etag, System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized void renovar(String chave, Entrada entrada) {
+        entradas.put(chave, new Entrada(entrada.corpo(), entrada.etag(), System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized void limpar() {
+        entradas.clear();
+    }
+
+    public record Entrada(byte[] corpo, String etag, long expiraEm) {
+
+        public boolean valida() {
+            return System.nanoTime() - expiraEm < 0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.desafioestagio.wicket.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.desafioestagio.wicket.model.Cliente;
+import org.desafioestagio.wicket.model.Pagina;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas de clientes no backend (/api/clientes).
+ */
+public class ClienteApiService {
+
+    private static final String CAMINHO = "/api/clientes";
+    private static final TypeReference<Pagina<Cliente>> PAGINA_CLIENTES = new TypeReference<>() {};
+    private static final TypeReference<Cliente> CLIENTE = new TypeReference<>() {};
+
+    private final BackendClient backendClient;
+
+    public ClienteApiService(BackendClient backendClient) {
+        this.backendClient = backendClient;
+    }
+
+    public List<Cliente> listarPagina(int pagina, int tamanho) {
+        Map<String, Object> parametros = new HashMap<>();
+        parametros.put("pagina", pagina);
+        parametros.put("tamanho", tamanho);
+        return backendClient.get(CAMINHO + "/paginado", parametros, PAGINA_CLIENTES).getConteudo();
+    }
+
+    public long contar() {
+        // Página mínima só para obter o total do filtro
+        Map<String, Object> parametros = new HashMap<>();
+        parametros.put("tamanho", 1);
+        parametros.put("incluirTotal", true);
+        Long total = backendClient.get(CAMINHO + "/paginado", parametros, PAGINA_CLIENTES).getTotal();
+        return total != null ? total : 0;
+    }
+
+    public Cliente buscarPorId(Long id) {
+        return backendClient.get(CAMINHO + "/" + id, Map.of(), CLIENTE);
+    }
+}
@@ -4,24 +4,34 @@ import org.desafioestagio.wicket.model.Cliente;
 import org.desafioestagio.wicket.model.TipoPessoa;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * Armazenamento em memória usado quando o módulo roda sem o backend. É compartilhado entre as
+ * sessões, por isso usa mapa concorrente e gerador de IDs atômico.
+ */
 public class ClienteService {
 
-    private final Map<Long, Cliente> clientes = new HashMap<>();
-    private long idCounter = 1L;
+    private final ConcurrentMap<Long, Cliente> clientes = new ConcurrentHashMap<>();
+    private final AtomicLong idCounter = new AtomicLong(1L);
 
     public Cliente salvar(Cliente cliente) {
         if (cliente.getId() == null) {
-            cliente.setId(idCounter++);
+            cliente.setId(idCounter.getAndIncrement());
         }
         clientes.put(cliente.getId(), cliente);
         return cliente;
     }
 
+    // Só substitui um cliente existente: uma atualização concorrente com excluir não traz o cliente de volta
     public Cliente atualizar(Long id, Cliente clienteAtualizado) {
         clienteAtualizado.setId(id);
-        clientes.put(id, clienteAtualizado);
+        if (clientes.computeIfPresent(id, (chave, anterior) -> clienteAtualizado) == null) {
+            throw new RuntimeException("Cliente não encontrado com ID: " + id);
+        }
         return clienteAtualizado;
     }
 
@@ -38,9 +48,10 @@ public class ClienteService {
     }
 
     public void ativarDesativar(Long id, boolean ativo) {
-        Cliente cliente = clientes.get(id);
-        if (cliente != null) {
+        // Alteração feita com a entrada bloqueada, sem concorrer com atualizar/excluir do mesmo cliente
+        clientes.computeIfPresent(id, (chave, cliente) -> {
             cliente.setAtivo(ativo);
-        }
+            return cliente;
+        });
     }
 }
@@ -3,29 +3,43 @@ package org.desafioestagio.wicket.service;
 import org.desafioestagio.wicket.model.Endereco;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * Armazenamento em memória de endereços, compartilhado entre as sessões. Além do mapa por ID,
+ * mantém um índice clienteId -> IDs de endereço atualizado a cada escrita, para que a consulta
+ * por cliente não percorra todos os endereços.
+ */
 public class EnderecoService {
 
-    private final Map<Long, Endereco> enderecoMap = new HashMap<>();
+    private final ConcurrentMap<Long, Endereco> enderecoMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<Long>> idsPorCliente = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1L);
 
     public Endereco salvar(Endereco endereco) {
         if (endereco.getId() == null) {
             endereco.setId(idGenerator.getAndIncrement());
         }
-        enderecoMap.put(endereco.getId(), endereco);
+        enderecoMap.compute(endereco.getId(), (id, anterior) -> {
+            reindexar(id, anterior != null ? anterior.getClienteId() : null, endereco.getClienteId());
+            return endereco;
+        });
         return endereco;
     }
 
     public Endereco atualizar(Endereco enderecoAtualizado) {
-        if (enderecoAtualizado.getId() == null || !enderecoMap.containsKey(enderecoAtualizado.getId())) {
+        Endereco atualizado = enderecoAtualizado.getId() == null ? null
+                : enderecoMap.computeIfPresent(enderecoAtualizado.getId(), (id, anterior) -> {
+                    reindexar(id, anterior.getClienteId(), enderecoAtualizado.getClienteId());
+                    return enderecoAtualizado;
+                });
+        if (atualizado == null) {
             throw new RuntimeException("Endereço não encontrado com ID: " + enderecoAtualizado.getId());
         }
-
-        enderecoMap.put(enderecoAtualizado.getId(), enderecoAtualizado);
-        return enderecoAtualizado;
+        return atualizado;
     }
 
     public Endereco buscarPorId(Long id) {
@@ -37,7 +51,10 @@ public class EnderecoService {
     }
 
     public void deletar(Long id) {
-        enderecoMap.remove(id);
+        enderecoMap.computeIfPresent(id, (chave, anterior) -> {
+            desindexar(chave, anterior.getClienteId());
+            return null;
+        });
     }
 
     public List<Endereco> listarTodos() {
@@ -45,8 +62,34 @@ public class EnderecoService {
     }
 
     public List<Endereco> listarPorClienteId(Long clienteId) {
-        return enderecoMap.values().stream()
-                .filter(e -> e.getClienteId() != null && clienteId.equals(e.getClienteId()))
+        // Confere o clienteId atual: um endereço alterado em memória antes de atualizar() pode ter ficado no índice antigo
+        return idsPorCliente.getOrDefault(clienteId, Set.of()).stream()
+                .map(enderecoMap::get)
+                .filter(e -> e != null && clienteId.equals(e.getClienteId()))
                 .collect(Collectors.toList());
     }
+
+    // Chamados dentro do compute do endereço, com a entrada dele bloqueada; cada conjunto do índice
+    // só é alterado dentro do compute da própria chave, então inclusão e remoção não se perdem
+    private void reindexar(Long id, Long clienteAnterior, Long clienteNovo) {
+        if (clienteAnterior != null && !clienteAnterior.equals(clienteNovo)) {
+            desindexar(id, clienteAnterior);
+        }
+        if (clienteNovo != null) {
+            idsPorCliente.compute(clienteNovo, (chave, ids) -> {
+                Set<Long> conjunto = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                conjunto.add(id);
+                return conjunto;
+            });
+        }
+    }
+
+    private void desindexar(Long id, Long clienteId) {
+        if (clienteId != null) {
+            idsPorCliente.computeIfPresent(clienteId, (chave, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package org.desafioestagio.wicket.service;
+
+import org.desafioestagio.wicket.model.Cliente;
+import org.desafioestagio.wicket.model.Endereco;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Estresse dos armazenamentos em memória: várias threads criando, alterando e excluindo os mesmos
+ * IDs ao mesmo tempo. Ao final confere as contagens e se o índice por cliente bate com uma
+ * varredura completa dos endereços.
+ */
+class ArmazenamentoConcorrenteTest {
+
+    private static final int THREADS = 8;
+    private static final int POR_THREAD = 500;
+    private static final int CLIENTES = 20;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void iniciar() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void clientesCriadosAoMesmoTempoNaoSePerdem() throws Exception {
+        ClienteService service = new ClienteService();
+
+        executarEmParalelo(thread -> {
+            for (int i = 0; i < POR_THREAD; i++) {
+                service.salvar(cliente(null, "c" + thread + "-" + i));
+            }
+        });
+
+        List<Cliente> todos = service.listarTodos();
+        assertEquals(THREADS * POR_THREAD, todos.size());
+        assertEquals(todos.size(), todos.stream().map(Cliente::getId).distinct().count());
+    }
+
+    @Test
+    void alteracoesEExclusoesNosMesmosIdsDeixamEstadoConsistente() throws Exception {
+        ClienteService service = new ClienteService();
+        for (int i = 0; i < CLIENTES; i++) {
+            service.salvar(cliente(null, "inicial-" + i));
+        }
+        List<Long> ids = service.listarTodos().stream().map(Cliente::getId).sorted().collect(Collectors.toList());
+        // Todos os IDs recebem alterações de todas as threads; metade deles também é excluída no meio delas
+        Set<Long> excluidos = new HashSet<>(ids.subList(0, CLIENTES / 2));
+        Map<Long, Set<String>> nomesGravados = new ConcurrentHashMap<>();
+
+        executarEmParalelo(thread -> {
+            Random aleatorio = new Random(thread);
+            for (int i = 0; i < POR_THREAD; i++) {
+                Long id = ids.get(aleatorio.nextInt(ids.size()));
+                if (excluidos.contains(id) && aleatorio.nextInt(4) == 0) {
+                    service.excluir(id);
+                } else if (i % 2 == 0) {
+                    String nome = "t" + thread + "-" + i;
+                    nomesGravados.computeIfAbsent(id, chave -> ConcurrentHashMap.newKeySet()).add(nome);
+                    try {
+                        service.atualizar(id, cliente(id, nome));
+                    } catch (RuntimeException e) {
+                        // Cliente já excluído por outra thread
+                    }
+                } else {
+                    service.ativarDesativar(id, i % 4 == 1);
+                }
+            }
+            excluidos.forEach(service::excluir);
+        });
+
+        // Atualizações que perderam a corrida com a exclusão não podem ter recriado o cliente
+        assertEquals(CLIENTES - excluidos.size(), service.listarTodos().size());
+        for (Long id : ids) {
+            Optional<Cliente> encontrado = service.buscarPorId(id);
+            assertEquals(!excluidos.contains(id), encontrado.isPresent(), "cliente " + id);
+            if (encontrado.isPresent()) {
+                Cliente cliente = encontrado.get();
+                assertEquals(id, cliente.getId());
+                // O valor final é uma das gravações feitas para este ID, nunca a de outro
+                String nome = cliente.getNome();
+                assertTrue(nome.equals("inicial-" + ids.indexOf(id))
+                        || nomesGravados.getOrDefault(id, Set.of()).contains(nome), "cliente " + id + ": " + nome);
+            }
+        }
+
+        // Com as escritas encerradas, uma última atualização e uma alteração de status são aplicadas por inteiro
+        executarEmParalelo(thread -> {
+            for (int i = thread; i < ids.size(); i += THREADS) {
+                Long id = ids.get(i);
+                if (excluidos.contains(id)) {
+                    assertThrows(RuntimeException.class, () -> service.atualizar(id, cliente(id, "final-" + id)));
+                } else {
+                    service.atualizar(id, cliente(id, "final-" + id));
+                    service.ativarDesativar(id, false);
+                }
+            }
+        });
+        for (Long id : ids) {
+            if (!excluidos.contains(id)) {
+                Cliente cliente = service.buscarPorId(id).orElseThrow();
+                assertEquals("final-" + id, cliente.getNome());
+                assertFalse(cliente.isAtivo(), "cliente " + id);
+            }
+        }
+    }
+
+    @Test
+    void indicePorClienteAcompanhaEscritasConcorrentes() throws Exception {
+        EnderecoService service = new EnderecoService();
+        Map<Integer, List<Long>> criadosPorThread = new ConcurrentHashMap<>();
+
+        // Cada thread cria endereços para clientes compartilhados, move os seus entre clientes e exclui um a cada três
+        executarEmParalelo(thread -> {
+            Random aleatorio = new Random(thread);
+            List<Long> criados = new ArrayList<>();
+            for (int i = 0; i < POR_THREAD; i++) {
+                long clienteId = 1 + aleatorio.nextInt(CLIENTES);
+                criados.add(service.salvar(endereco(null, clienteId, "rua " + i)).getId());
+            }
+            for (Long id : criados) {
+                long clienteId = 1 + aleatorio.nextInt(CLIENTES);
+                service.atualizar(endereco(id, clienteId, "rua movida " + id));
+            }
+            for (int i = 0; i < criados.size(); i += 3) {
+                service.deletar(criados.get(i));
+            }
+            criadosPorThread.put(thread, criados);
+        });
+
+        int excluidosPorThread = (POR_THREAD + 2) / 3;
+        List<Endereco> todos = service.listarTodos();
+        assertEquals(THREADS * (POR_THREAD - excluidosPorThread), todos.size());
+        assertEquals(todos.size(), todos.stream().map(Endereco::getId).distinct().count());
+
+        Map<Long, Set<Long>> varredura = todos.stream().collect(Collectors.groupingBy(
+                Endereco::getClienteId, Collectors.mapping(Endereco::getId, Collectors.toSet())));
+        for (long clienteId = 1; clienteId <= CLIENTES; clienteId++) {
+            Set<Long> indexados = service.listarPorClienteId(clienteId).stream()
+                    .map(Endereco::getId).collect(Collectors.toSet());
+            assertEquals(varredura.getOrDefault(clienteId, Set.of()), indexados, "cliente " + clienteId);
+        }
+
+        // Nenhuma atualização se perdeu: todo endereço restante está com o último cliente gravado
+        for (List<Long> criados : criadosPorThread.values()) {
+            for (int i = 0; i < criados.size(); i++) {
+                Long id = criados.get(i);
+                if (i % 3 == 0) {
+                    assertThrows(RuntimeException.class, () -> service.buscarPorId(id));
+                } else {
+                    assertEquals("rua movida " + id, service.buscarPorId(id).getLogradouro());
+                }
+            }
+        }
+    }
+
+    private void executarEmParalelo(Tarefa tarefa) throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> futuros = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futuros.add(executor.submit(() -> {
+                largada.await();
+                tarefa.executar(thread);
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> futuro : futuros) {
+            futuro.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Cliente cliente(Long id, String nome) {
+        Cliente cliente = new Cliente();
+        cliente.setId(id);
+        cliente.setNome(nome);
+        cliente.setAtivo(true);
+        return cliente;
+    }
+
+    private static Endereco endereco(Long id, long clienteId, String logradouro) {
+        Endereco endereco = new Endereco();
+        endereco.setId(id);
+        endereco.setClienteId(clienteId);
+        endereco.setLogradouro(logradouro);
+        return endereco;
+    }
+
+    @FunctionalInterface
+    private interface Tarefa {
+        void executar(int thread) throws Exception;
+    }
+}